@@ -0,0 +1,84 @@
+package com.microservices.authenticationservice.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Guards the virtual-thread mode against carrier pinning.
+ * <p>
+ * A virtual thread that blocks inside {@code synchronized} code or a native frame keeps its carrier
+ * thread. This monitor streams the JFR {@code jdk.VirtualThreadPinned} event, counts every pin longer
+ * than the threshold in {@code jvm.threads.virtual.pinned} and logs the top frame, so a regression in
+ * the login path (JDBC, BCrypt, JWT signing) shows up in metrics before it shows up as latency.
+ * <p>
+ * UserService has its own monitor publishing the same meter: the services are built and deployed
+ * separately and share no library, as with {@code ApiResponse} and {@code GlobalExceptionHandler}.
+ * This one logs at most one pin per {@link #LOG_INTERVAL}, since a login burst can pin thousands of
+ * threads in the same frame.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration LOG_INTERVAL = Duration.ofSeconds(10);
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private final AtomicLong nextLogNanos = new AtomicLong(System.nanoTime());
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.threads.virtual.pinned-threshold-ms}") long thresholdMs) {
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String topFrame = frames.isEmpty() ? "unknown" : frames.get(0).getMethod().getType().getName() + "." + frames.get(0).getMethod().getName();
+        long now = System.nanoTime();
+        long next = nextLogNanos.get();
+        if (now - next >= 0 && nextLogNanos.compareAndSet(next, now + LOG_INTERVAL.toNanos())) {
+            log.warn("Virtual thread pinned for {} at {}", event.getDuration(), topFrame);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.microservices.authenticationservice.api.models.entities;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -11,6 +12,8 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "users")
+// Soft-deleted users are invisible, so they can no longer log in
+@SQLRestriction("soft_delete = false")
 public class UserEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -22,7 +25,7 @@ public class UserEntity {
     @Column
     private String lastName;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -0,0 +1,82 @@
+package com.microservices.userservice.benchmarks;
+
+import com.microservices.userservice.api.assemblers.UserModelAssembler;
+import com.microservices.userservice.api.controllers.UserController;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building HATEOAS links for a 100-user page with {@code linkTo(methodOn(...))} per element
+ * against {@link UserModelAssembler}. Run with {@code ./gradlew jmh}; the gc profiler reports
+ * allocated bytes per operation next to the average time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserLinkAssemblyBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final UserModelAssembler userModelAssembler = new UserModelAssembler();
+    private Page<UserDTO> userPage;
+
+    /**
+     * Binds a fresh request per invocation so the assembler cannot reuse a base URI cached by an earlier one,
+     * matching what happens across real requests.
+     */
+    @Setup(Level.Invocation)
+    public void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.setServerName("localhost");
+        request.setServerPort(8081);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Setup(Level.Trial)
+    public void createPage() {
+        List<UserDTO> users = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            UserDTO user = new UserDTO();
+            user.setId(UUID.randomUUID());
+            user.setEmail("user" + i + "@example.com");
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            user.setCreationDate(LocalDateTime.now());
+            users.add(user);
+        }
+        userPage = new PageImpl<>(users, PageRequest.of(0, PAGE_SIZE), PAGE_SIZE);
+    }
+
+    @TearDown(Level.Invocation)
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Page<EntityModel<UserDTO>> linkBuilder() {
+        return userPage.map(user -> EntityModel.of(user,
+                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getUserById(user.getId(), null, null)).withSelfRel(),
+                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getAllUsers(0, PAGE_SIZE, null, null, null)).withRel("allUsers")));
+    }
+
+    @Benchmark
+    public Page<EntityModel<UserDTO>> assembler() {
+        Link allUsersLink = userModelAssembler.allUsersLink(0, PAGE_SIZE, null);
+        return userPage.map(user -> userModelAssembler.toModel(user, allUsersLink));
+    }
+}
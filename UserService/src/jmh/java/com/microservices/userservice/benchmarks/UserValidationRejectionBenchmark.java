@@ -0,0 +1,70 @@
+package com.microservices.userservice.benchmarks;
+
+import com.microservices.userservice.api.exceptions.InvalidEmailException;
+import com.microservices.userservice.api.services.implementation.LocalizedMessages;
+import com.microservices.userservice.api.services.implementation.UserValidator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of rejecting a request with an invalid email. Run with {@code ./gradlew jmh};
+ * the gc profiler reports allocated bytes per rejection.
+ * <p>
+ * {@link #previousRejection()} reproduces the path before validation was reworked: the regex is
+ * recompiled by {@code String.matches}, the exception captures a stack trace, and the message is
+ * resolved once when throwing and again in the exception handler. {@link #rejection()} runs the
+ * current {@link UserValidator} and reuses the exception's message as GlobalExceptionHandler does.
+ * Logging is left out of both, since it depends on the appender configuration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserValidationRejectionBenchmark {
+
+    private static final String INVALID_EMAIL = "not-an-email";
+
+    private MessageSource messageSource;
+    private UserValidator userValidator;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource resourceBundleMessageSource = new ResourceBundleMessageSource();
+        resourceBundleMessageSource.setBasename("messages");
+        resourceBundleMessageSource.setDefaultEncoding("UTF-8");
+        messageSource = resourceBundleMessageSource;
+        userValidator = new UserValidator(new LocalizedMessages(messageSource));
+    }
+
+    @Benchmark
+    public String previousRejection() {
+        try {
+            if (!INVALID_EMAIL.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+                String message = messageSource.getMessage("invalid.email", new Object[]{INVALID_EMAIL}, LocaleContextHolder.getLocale());
+                throw new StackTraceInvalidEmailException(message);
+            }
+            return null;
+        } catch (StackTraceInvalidEmailException e) {
+            return messageSource.getMessage("invalid.email", new Object[]{INVALID_EMAIL}, LocaleContextHolder.getLocale());
+        }
+    }
+
+    @Benchmark
+    public String rejection() {
+        try {
+            userValidator.validateEmail(INVALID_EMAIL);
+            return null;
+        } catch (InvalidEmailException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static final class StackTraceInvalidEmailException extends RuntimeException {
+        StackTraceInvalidEmailException(String message) {
+            super(message);
+        }
+    }
+}
@@ -34,6 +34,12 @@ public class UserServiceApplication {
 		System.setProperty("spring.datasource.password", password);
 		System.setProperty("spring.datasource.url", url);
 
+		// Optional: comma-separated JDBC URLs of read replicas
+		String replicaUrls = dotenv.get("REPLICA_URLS");
+		if (replicaUrls != null) {
+			System.setProperty("app.datasource.replicas.urls", replicaUrls);
+		}
+
 		SpringApplication.run(UserServiceApplication.class, args);
 	}
 
@@ -0,0 +1,38 @@
+package com.microservices.userservice.api.assemblers;
+
+import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.util.ApiConstants;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class AdministratorProfileModelAssembler implements RepresentationModelAssembler<AdministratorProfileDTO, EntityModel<AdministratorProfileDTO>> {
+
+    public static final LinkRelation ALL_ADMIN_PROFILES_REL = LinkRelation.of("allAdminProfiles");
+
+    /**
+     * Wraps a single profile with its self link and a link to the first page of all administrator profiles.
+     */
+    @Override
+    public EntityModel<AdministratorProfileDTO> toModel(AdministratorProfileDTO adminProfileDTO) {
+        return EntityModel.of(adminProfileDTO, selfLink(adminProfileDTO.getUserId()),
+                ApiLinks.pageLink(ApiConstants.ADMIN_PROFILES_BASE_URL, 0, 10, null, ALL_ADMIN_PROFILES_REL));
+    }
+
+    /**
+     * Wraps a profile with its self link only.
+     */
+    public EntityModel<AdministratorProfileDTO> toSelfModel(AdministratorProfileDTO adminProfileDTO) {
+        return EntityModel.of(adminProfileDTO, selfLink(adminProfileDTO.getUserId()));
+    }
+
+    public Link selfLink(UUID userId) {
+        return ApiLinks.link(ApiConstants.ADMIN_PROFILES_BASE_URL + "/" + userId, IanaLinkRelations.SELF);
+    }
+}
@@ -0,0 +1,69 @@
+package com.microservices.userservice.api.assemblers;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Builds links from the route constants in {@link com.microservices.userservice.api.util.ApiConstants}.
+ * <p>
+ * {@code WebMvcLinkBuilder.linkTo(methodOn(...))} creates a proxy, resolves the handler mapping
+ * reflectively and rebuilds the base URI on every call. Here the base URI is resolved once per
+ * request and cached as a request attribute, and every link is a plain string concatenation.
+ */
+public final class ApiLinks {
+
+    private static final String BASE_URI_ATTRIBUTE = ApiLinks.class.getName() + ".BASE_URI";
+
+    private ApiLinks() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @return the scheme, host, port and context path of the current request.
+     */
+    public static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    public static Link link(String path, LinkRelation relation) {
+        return Link.of(baseUri() + path, relation);
+    }
+
+    /**
+     * Builds a link to a paginated listing, omitting the search parameter when it is null.
+     */
+    public static Link pageLink(String path, int page, int size, String search, LinkRelation relation) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUri() + path)
+                .queryParam("page", page)
+                .queryParam("size", size);
+        if (search != null) {
+            builder.queryParam("search", search);
+        }
+        return Link.of(builder.encode().build().toUriString(), relation);
+    }
+
+    /**
+     * Builds a link to a cursor-paginated listing, omitting the cursor and expand parameters when they are null.
+     */
+    public static Link cursorLink(String path, String after, int size, String expand, LinkRelation relation) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUri() + path);
+        if (after != null) {
+            builder.queryParam("after", after);
+        }
+        builder.queryParam("size", size);
+        if (expand != null) {
+            builder.queryParam("expand", expand);
+        }
+        return Link.of(builder.encode().build().toUriString(), relation);
+    }
+}
@@ -0,0 +1,38 @@
+package com.microservices.userservice.api.assemblers;
+
+import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.util.ApiConstants;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class ManagerProfileModelAssembler implements RepresentationModelAssembler<ManagerProfileDTO, EntityModel<ManagerProfileDTO>> {
+
+    public static final LinkRelation ALL_MANAGER_PROFILES_REL = LinkRelation.of("allManagerProfiles");
+
+    /**
+     * Wraps a single profile with its self link and a link to the first page of all manager profiles.
+     */
+    @Override
+    public EntityModel<ManagerProfileDTO> toModel(ManagerProfileDTO managerProfileDTO) {
+        return EntityModel.of(managerProfileDTO, selfLink(managerProfileDTO.getUserId()),
+                ApiLinks.pageLink(ApiConstants.MANAGER_PROFILES_BASE_URL, 0, 10, null, ALL_MANAGER_PROFILES_REL));
+    }
+
+    /**
+     * Wraps a profile with its self link only.
+     */
+    public EntityModel<ManagerProfileDTO> toSelfModel(ManagerProfileDTO managerProfileDTO) {
+        return EntityModel.of(managerProfileDTO, selfLink(managerProfileDTO.getUserId()));
+    }
+
+    public Link selfLink(UUID userId) {
+        return ApiLinks.link(ApiConstants.MANAGER_PROFILES_BASE_URL + "/" + userId, IanaLinkRelations.SELF);
+    }
+}
@@ -0,0 +1,52 @@
+package com.microservices.userservice.api.assemblers;
+
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.util.ApiConstants;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class UserModelAssembler implements RepresentationModelAssembler<UserDTO, EntityModel<UserDTO>> {
+
+    public static final LinkRelation ALL_USERS_REL = LinkRelation.of("allUsers");
+
+    /**
+     * Wraps a single user with its self link and a link to the first page of all users.
+     */
+    @Override
+    public EntityModel<UserDTO> toModel(UserDTO userDTO) {
+        return toModel(userDTO, allUsersLink(0, 10, null));
+    }
+
+    /**
+     * Wraps a user with its self link and a shared, precomputed link to the listing it belongs to.
+     */
+    public EntityModel<UserDTO> toModel(UserDTO userDTO, Link allUsersLink) {
+        return EntityModel.of(userDTO, selfLink(userDTO.getId()), allUsersLink);
+    }
+
+    /**
+     * Wraps a user with its self link only.
+     */
+    public EntityModel<UserDTO> toSelfModel(UserDTO userDTO) {
+        return EntityModel.of(userDTO, selfLink(userDTO.getId()));
+    }
+
+    public Link selfLink(UUID id) {
+        return ApiLinks.link(ApiConstants.USERS_BASE_URL + "/" + id, IanaLinkRelations.SELF);
+    }
+
+    public Link allUsersLink(int page, int size, String search) {
+        return ApiLinks.pageLink(ApiConstants.USERS_BASE_URL, page, size, search, ALL_USERS_REL);
+    }
+
+    public Link cursorLink(String after, int size, String expand, LinkRelation relation) {
+        return ApiLinks.cursorLink(ApiConstants.USERS_CURSOR_URL, after, size, expand, relation);
+    }
+}
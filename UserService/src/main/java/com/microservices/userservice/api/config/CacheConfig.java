@@ -0,0 +1,40 @@
+package com.microservices.userservice.api.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's cache abstraction. Caches are Caffeine-backed (size- and TTL-bounded,
+ * W-TinyLFU admission) and configured through the {@code spring.cache.*} properties;
+ * hit, miss and eviction counters are bound to the Micrometer registry by Spring Boot.
+ * <p>
+ * Puts and evictions made inside a transaction are applied once it commits, so a concurrent
+ * reader cannot cache the row as it was before the change after the eviction already ran,
+ * and a rolled-back write evicts nothing.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (spec != null) {
+            caffeineCacheManager.setCacheSpecification(spec);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,74 @@
+package com.microservices.userservice.api.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declares the JDBC data sources: the primary pool, bound to {@code spring.datasource.hikari.*}, one pool per
+ * read replica in {@code app.datasource.replicas.urls}, and the {@link ReplicaRoutingDataSource} that chooses
+ * between them.
+ * <p>
+ * The data source everything else uses is the router behind a {@link LazyConnectionDataSourceProxy}. The
+ * transaction manager asks for a connection before it marks the transaction read-only, and the proxy defers
+ * the physical connection until the first statement, when the flag is known. On top sits the
+ * {@link StatementCountingDataSource}, which counts statements per request.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+                                                      ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry,
+                                                      @Value("${app.datasource.replicas.urls}") List<String> replicaUrls,
+                                                      @Value("${app.datasource.replicas.maximum-pool-size}") int maximumPoolSize,
+                                                      @Value("${app.datasource.replicas.connection-timeout-ms}") long connectionTimeoutMs,
+                                                      @Value("${app.datasource.replicas.max-lag-ms}") long maxLagMs) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(primaryDataSource.getPoolName() + "-replica-" + replicas.size());
+            config.setJdbcUrl(url.trim());
+            config.setUsername(properties.determineUsername());
+            config.setPassword(properties.determinePassword());
+            config.setMaximumPoolSize(maximumPoolSize);
+            // Short, so a replica that stops answering falls back to the primary quickly
+            config.setConnectionTimeout(connectionTimeoutMs);
+            config.setReadOnly(true);
+            config.setMetricRegistry(meterRegistry);
+            // Do not fail or wait at startup when a replica is down: the pool starts empty, the replica stays out
+            // of rotation, and the scheduled health check brings it in once it answers
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker, meterRegistry, maxLagMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new StatementCountingDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+    }
+}
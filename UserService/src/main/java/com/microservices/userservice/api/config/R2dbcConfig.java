@@ -0,0 +1,55 @@
+package com.microservices.userservice.api.config;
+
+import com.microservices.userservice.api.repositories.reactive.ReactiveUserRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+import java.time.Duration;
+
+/**
+ * Sets up R2DBC next to JDBC for the reactive read endpoints.
+ * <p>
+ * Both connect to the same database: the R2DBC URL is derived from {@code spring.datasource.url}, so
+ * {@code POSTGRES_URL} stays the only setting. Spring Boot stops auto-configuring the JDBC
+ * {@code DataSource} as soon as a {@code ConnectionFactory} exists, so it is declared explicitly in
+ * {@link DataSourceConfig}. Only JPA manages transactions; the R2DBC
+ * transaction manager is excluded in application.properties, and the reactive reads run without one.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+@EnableR2dbcRepositories(basePackageClasses = ReactiveUserRepository.class)
+public class R2dbcConfig {
+
+    private static final String JDBC_PREFIX = "jdbc:";
+    private static final String R2DBC_PREFIX = "r2dbc:";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(DataSourceProperties properties,
+                                            @Value("${app.r2dbc.pool.initial-size}") int initialSize,
+                                            @Value("${app.r2dbc.pool.max-size}") int maxSize,
+                                            @Value("${app.r2dbc.pool.max-idle-ms}") long maxIdleMs) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(toR2dbcUrl(properties.determineUrl()))
+                .username(properties.determineUsername())
+                .password(properties.determinePassword())
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("r2dbc-users")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(Duration.ofMillis(maxIdleMs))
+                .build());
+    }
+
+    // jdbc:postgresql://host:5432/db becomes r2dbc:postgresql://host:5432/db
+    private static String toR2dbcUrl(String jdbcUrl) {
+        return jdbcUrl.startsWith(JDBC_PREFIX) ? R2DBC_PREFIX + jdbcUrl.substring(JDBC_PREFIX.length()) : jdbcUrl;
+    }
+}
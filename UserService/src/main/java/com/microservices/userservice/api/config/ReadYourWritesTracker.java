@@ -0,0 +1,55 @@
+package com.microservices.userservice.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Remembers which principals wrote recently, so their reads stay on the primary until the replicas have
+ * caught up with their own changes. The window is per instance: a client balanced onto another instance
+ * right after a write can still read from a replica.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final long MAX_TRACKED_PRINCIPALS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(@Value("${app.datasource.replicas.sticky-window-ms}") long stickyWindowMs) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(stickyWindowMs))
+                .maximumSize(MAX_TRACKED_PRINCIPALS)
+                .build();
+    }
+
+    /**
+     * Starts or extends the sticky window of the current principal. Does nothing without one.
+     */
+    public void recordWrite() {
+        String principal = currentPrincipal();
+        if (principal != null) {
+            recentWriters.put(principal, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Tells whether the current principal wrote within the sticky window.
+     *
+     * @return true if its reads must go to the primary.
+     */
+    public boolean isSticky() {
+        String principal = currentPrincipal();
+        return principal != null && recentWriters.getIfPresent(principal) != null;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
@@ -0,0 +1,237 @@
+package com.microservices.userservice.api.config;
+
+import com.microservices.userservice.api.util.RateLimitedLogger;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Routes connections between the primary and the read replicas.
+ * <p>
+ * Work in a {@code @Transactional(readOnly = true)} transaction goes to the next healthy replica, round-robin.
+ * Everything else goes to the primary: read-write transactions, work outside a transaction, reads by a
+ * principal that wrote within the read-your-writes window, and reads wrapped in {@link #readFromPrimary(Supplier)}.
+ * A replica is healthy while it answers the scheduled check, streams WAL from the primary and lags it by at
+ * most {@code app.datasource.replicas.max-lag-ms}. When a replica cannot hand out a connection, it is marked
+ * unhealthy and the primary serves the request instead.
+ */
+@Slf4j
+public final class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY_KEY = "primary";
+
+    // Zero when the replica has replayed everything it received, so an idle primary does not look like lag.
+    // That only holds while it is streaming: a replica cut off from the primary has replayed everything it
+    // received too, so it reports NULL instead and leaves the rotation.
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE extract(epoch FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Map<String, Replica> replicasByKey = new HashMap<>();
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final double maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final RateLimitedLogger fallbackLog = new RateLimitedLogger(log, 1, Duration.ofSeconds(10));
+
+    private final Counter writeRoutes;
+    private final Counter readRoutes;
+    private final Counter stickyRoutes;
+    private final Counter fallbackRoutes;
+    private final Counter primaryReadRoutes;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaDataSources,
+                                    ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry, long maxLagMs) {
+        this.primary = primary;
+        this.replicas = replicaDataSources.stream().map(Replica::new).toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagSeconds = maxLagMs / 1000.0;
+
+        for (Replica replica : replicas) {
+            replicasByKey.put(replica.key, replica);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("Whether the replica currently receives read-only traffic")
+                    .tag("replica", replica.key)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replication lag measured by the last health check")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.key)
+                    .register(meterRegistry);
+        }
+
+        this.writeRoutes = routeCounter(meterRegistry, PRIMARY_KEY, "write");
+        this.stickyRoutes = routeCounter(meterRegistry, PRIMARY_KEY, "sticky");
+        this.fallbackRoutes = routeCounter(meterRegistry, PRIMARY_KEY, "fallback");
+        this.primaryReadRoutes = routeCounter(meterRegistry, PRIMARY_KEY, "primary-read");
+        this.readRoutes = routeCounter(meterRegistry, "replica", "read");
+    }
+
+    // The targets are set once the bean is constructed: setting them from the constructor would let this escape early
+    @Override
+    public void afterPropertiesSet() {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        super.afterPropertiesSet();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out, by target and routing reason")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected String determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite();
+            }
+            writeRoutes.increment();
+            return PRIMARY_KEY;
+        }
+        if (replicas.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+        if (Boolean.TRUE.equals(PRIMARY_READ.get())) {
+            primaryReadRoutes.increment();
+            return PRIMARY_KEY;
+        }
+        if (readYourWritesTracker.isSticky()) {
+            stickyRoutes.increment();
+            return PRIMARY_KEY;
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (replica.healthy) {
+                readRoutes.increment();
+                return replica.key;
+            }
+        }
+        fallbackRoutes.increment();
+        return PRIMARY_KEY;
+    }
+
+    /**
+     * Runs a read on the primary even inside a read-only transaction. Meant for reads whose result is
+     * cached: a replica can return a row older than a change whose notification has already evicted it,
+     * and that stale copy would then be served until the cache entry expires.
+     * <p>
+     * The connection is bound to the transaction when its first statement runs, so the read must issue
+     * the first statement of its transaction.
+     *
+     * @param read the read to run.
+     * @param <T>  the result type.
+     * @return the result of the read.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        if (Boolean.TRUE.equals(PRIMARY_READ.get())) {
+            return read.get();
+        }
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_READ.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = replicasByKey.get(determineCurrentLookupKey());
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.healthy = false;
+            fallbackRoutes.increment();
+            fallbackLog.warn("Replica {} unavailable, reading from the primary: {}", replica.key, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Measures the lag of every replica and takes it in or out of rotation.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-ms}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            double lagSeconds = measureLag(replica);
+            boolean healthy = !Double.isNaN(lagSeconds) && lagSeconds <= maxLagSeconds;
+            if (healthy != replica.healthy) {
+                log.info("Replica {} is now {} (lag {}s)", replica.key, healthy ? "in rotation" : "out of rotation", lagSeconds);
+            }
+            replica.lagSeconds = lagSeconds;
+            replica.healthy = healthy;
+        }
+    }
+
+    private double measureLag(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            if (!resultSet.next()) {
+                return Double.NaN;
+            }
+            double lagSeconds = resultSet.getDouble(1);
+            return resultSet.wasNull() ? Double.NaN : lagSeconds;
+        } catch (SQLException e) {
+            log.debug("Health check of replica {} failed: {}", replica.key, e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Closes the replica pools. The primary pool is a bean of its own and is closed by the context.
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    private static final class Replica {
+
+        private final String key;
+        private final HikariDataSource dataSource;
+        // Out of rotation until the first health check has passed
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(HikariDataSource dataSource) {
+            this.key = dataSource.getPoolName();
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.microservices.userservice.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the soft-deleted user purge.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,64 @@
+package com.microservices.userservice.api.config;
+
+import com.microservices.userservice.api.util.RateLimitedLogger;
+import com.microservices.userservice.api.util.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Counts the SQL statements each request runs and records them in the {@code http.server.requests.statements}
+ * distribution summary, tagged like {@code http.server.requests}. A request above the warning threshold is
+ * logged, since a count that grows with the page size usually means an N+1 query.
+ */
+@Component
+@Slf4j
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final RateLimitedLogger warnLog = new RateLimitedLogger(log, 1, Duration.ofSeconds(1));
+
+    public StatementCountFilter(MeterRegistry meterRegistry,
+                                @Value("${app.statements.warn-threshold}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            filterChain.doFilter(request, response);
+            record(request, scope.count());
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements run per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+        if (count > warnThreshold) {
+            warnLog.warn("{} ran {} SQL statements", request.getMethod() + " " + uri, count);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.microservices.userservice.api.config;
+
+import com.microservices.userservice.api.util.StatementCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the number of SQL statements run so far to each response as {@code X-Statement-Count}, when
+ * {@code app.statements.debug-header} is enabled. The header is written just before the body, so it
+ * covers everything the controller did.
+ */
+@ControllerAdvice
+public class StatementCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Statement-Count";
+
+    private final boolean enabled;
+
+    public StatementCountHeaderAdvice(@Value("${app.statements.debug-header}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int count = StatementCounter.current();
+        if (count >= 0) {
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, String.valueOf(count));
+        }
+        return body;
+    }
+}
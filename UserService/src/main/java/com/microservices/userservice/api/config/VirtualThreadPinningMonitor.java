@@ -0,0 +1,79 @@
+package com.microservices.userservice.api.config;
+
+import com.microservices.userservice.api.util.RateLimitedLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Guards the virtual-thread mode against carrier pinning.
+ * <p>
+ * A virtual thread that blocks inside {@code synchronized} code or a native frame keeps its carrier
+ * thread, and enough of them at once starve the whole scheduler. The JDBC path is kept free of that
+ * (the PostgreSQL driver and HikariCP guard their state with {@code ReentrantLock}), and this monitor
+ * catches regressions: it streams the JFR {@code jdk.VirtualThreadPinned} event, counts every pin
+ * longer than the threshold in {@code jvm.threads.virtual.pinned} and logs the top frame.
+ * <p>
+ * AuthenticationService keeps its own monitor under the same meter name, so one dashboard covers both;
+ * the services share no library. Pins here are most likely in the import, export and change stream
+ * paths, which hold connections and sockets far longer than a request.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private final RateLimitedLogger pinnedLog = new RateLimitedLogger(log, 1, Duration.ofSeconds(10));
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.threads.virtual.pinned-threshold-ms}") long thresholdMs) {
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String topFrame = frames.isEmpty() ? "unknown" : frames.get(0).getMethod().getType().getName() + "." + frames.get(0).getMethod().getName();
+        pinnedLog.warn("Virtual thread pinned for {} at {}", event.getDuration(), topFrame);
+    }
+}
@@ -1,16 +1,25 @@
 package com.microservices.userservice.api.controllers;
 
+import com.microservices.userservice.api.assemblers.AdministratorProfileModelAssembler;
 import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.AdministratorProfileFilter;
+import com.microservices.userservice.api.models.dto.SliceDTO;
 import com.microservices.userservice.api.services.AdministratorProfileService;
 import com.microservices.userservice.api.util.ApiConstants;
+import com.microservices.userservice.api.util.ETags;
+import com.microservices.userservice.api.util.PageParameters;
+import com.microservices.userservice.api.util.SortParameter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -18,51 +27,74 @@ import java.util.UUID;
 @Slf4j
 public class AdministratorProfileController {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("userId", "department", "permissionsLevel", "lastUpdate");
+
     private final AdministratorProfileService adminProfileService;
+    private final AdministratorProfileModelAssembler adminProfileModelAssembler;
 
-    public AdministratorProfileController(final AdministratorProfileService adminProfileService) {
+    public AdministratorProfileController(final AdministratorProfileService adminProfileService,
+                                          final AdministratorProfileModelAssembler adminProfileModelAssembler) {
         this.adminProfileService = adminProfileService;
+        this.adminProfileModelAssembler = adminProfileModelAssembler;
     }
 
     /**
-     * Retrieves a paginated and optionally filtered list of administrator profiles.
+     * Retrieves a page of administrator profiles, optionally filtered and sorted. Only the requested
+     * page is read from the database and no count query is issued; hasNext tells whether more follow.
      * GET /api/v1/admin-profiles
      * @param page the page number of the pagination (optional)
-     * @param size the size of each page (optional)
-     * @param search optional search query to filter profiles (optional)
-     * @return ResponseEntity containing a list of AdministratorProfileDTO objects with HATEOAS links
+     * @param size the size of each page, at most 1000 (optional)
+     * @param search case-insensitive substring of the department (optional)
+     * @param department exact department (optional)
+     * @param permissionsLevel exact permissions level (optional)
+     * @param sort userId, department, permissionsLevel or lastUpdate, optionally followed by ,asc or ,desc (optional)
+     * @param ifNoneMatch the ETag of the page the client already holds (optional)
+     * @return ResponseEntity containing a slice of AdministratorProfileDTO objects with HATEOAS links, or 304 if the page is unchanged
      */
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
-    public ResponseEntity<List<EntityModel<AdministratorProfileDTO>>> getAllAdminProfiles(
+    public ResponseEntity<SliceDTO<EntityModel<AdministratorProfileDTO>>> getAllAdminProfiles(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String search) {
-        List<AdministratorProfileDTO> adminProfiles = adminProfileService.getAllAdminProfiles();
-        List<EntityModel<AdministratorProfileDTO>> entityModels = adminProfiles.stream()
-                .map(profile -> EntityModel.of(profile,
-                        WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(AdministratorProfileController.class).getAdminProfileByUserId(profile.getUserId())).withSelfRel()))
-                .toList();
-        return ResponseEntity.ok(entityModels);
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String permissionsLevel,
+            @RequestParam(defaultValue = "userId") String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Pageable pageable = PageParameters.of(page, size, SortParameter.parse(sort, SORTABLE_PROPERTIES, "userId"));
+        SliceDTO<AdministratorProfileDTO> adminProfiles = adminProfileService.getAdminProfiles(
+                new AdministratorProfileFilter(department, permissionsLevel, search), pageable);
+        String eTag = ETags.ofList(adminProfiles.isHasNext() ? 1 : 0, adminProfiles.getContent(),
+                AdministratorProfileDTO::getUserId, AdministratorProfileDTO::getLastUpdate);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(adminProfiles.map(adminProfileModelAssembler::toSelfModel));
     }
 
     /**
      * Retrieves an administrator profile by the user ID with HATEOAS links.
      * GET /api/v1/admin-profiles/{userId}
      * @param userId the UUID of the user associated with the profile
-     * @return ResponseEntity containing AdministratorProfileDTO and HATEOAS links
+     * @param ifNoneMatch the ETag of the profile the client already holds (optional)
+     * @return ResponseEntity containing AdministratorProfileDTO and HATEOAS links, or 304 if the profile is unchanged
      */
     @GetMapping("/{userId}")
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
-    public ResponseEntity<EntityModel<AdministratorProfileDTO>> getAdminProfileByUserId(@PathVariable UUID userId) {
+    public ResponseEntity<EntityModel<AdministratorProfileDTO>> getAdminProfileByUserId(@PathVariable UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> currentETag = adminProfileService.getAdminProfileLastUpdate(userId).map(lastUpdate -> ETags.of(userId, lastUpdate));
+            if (currentETag.isPresent() && ETags.matches(ifNoneMatch, currentETag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag.get()).build();
+            }
+        }
         AdministratorProfileDTO adminProfile = adminProfileService.getAdminProfileByUserId(userId);
         if (adminProfile == null) {
             return ResponseEntity.notFound().build();
         }
-        EntityModel<AdministratorProfileDTO> resource = EntityModel.of(adminProfile,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(AdministratorProfileController.class).getAdminProfileByUserId(userId)).withSelfRel(),
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(AdministratorProfileController.class).getAllAdminProfiles(0, 10, null)).withRel("allAdminProfiles"));
-        return ResponseEntity.ok(resource);
+        EntityModel<AdministratorProfileDTO> resource = adminProfileModelAssembler.toModel(adminProfile);
+        return ResponseEntity.ok().eTag(ETags.of(userId, adminProfile.getLastUpdate())).body(resource);
     }
 
     /**
@@ -75,9 +107,8 @@ public class AdministratorProfileController {
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
     public ResponseEntity<EntityModel<AdministratorProfileDTO>> createAdminProfile(@RequestBody AdministratorProfileDTO adminProfileDTO) {
         AdministratorProfileDTO createdProfile = adminProfileService.createAdminProfile(adminProfileDTO);
-        EntityModel<AdministratorProfileDTO> resource = EntityModel.of(createdProfile,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(AdministratorProfileController.class).getAdminProfileByUserId(createdProfile.getUserId())).withSelfRel());
-        return ResponseEntity.created(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(AdministratorProfileController.class).getAdminProfileByUserId(createdProfile.getUserId())).toUri()).body(resource);
+        EntityModel<AdministratorProfileDTO> resource = adminProfileModelAssembler.toSelfModel(createdProfile);
+        return ResponseEntity.created(adminProfileModelAssembler.selfLink(createdProfile.getUserId()).toUri()).body(resource);
     }
 
     /**
@@ -91,10 +122,8 @@ public class AdministratorProfileController {
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
     public ResponseEntity<EntityModel<AdministratorProfileDTO>> updateAdminProfile(@PathVariable UUID userId, @RequestBody AdministratorProfileDTO adminProfileDTO) {
         AdministratorProfileDTO updatedProfile = adminProfileService.updateAdminProfile(userId, adminProfileDTO);
-        EntityModel<AdministratorProfileDTO> resource = EntityModel.of(updatedProfile,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(AdministratorProfileController.class).getAdminProfileByUserId(userId)).withSelfRel(),
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(AdministratorProfileController.class).getAllAdminProfiles(0, 10, null)).withRel("allAdminProfiles"));
-        return ResponseEntity.ok(resource);
+        EntityModel<AdministratorProfileDTO> resource = adminProfileModelAssembler.toModel(updatedProfile);
+        return ResponseEntity.ok().eTag(ETags.of(userId, updatedProfile.getLastUpdate())).body(resource);
     }
 
     @DeleteMapping("/{userId}")
@@ -1,36 +1,74 @@
 package com.microservices.userservice.api.controllers;
 
+import com.microservices.userservice.api.assemblers.ManagerProfileModelAssembler;
 import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileFilter;
+import com.microservices.userservice.api.models.dto.SliceDTO;
 import com.microservices.userservice.api.services.ManagerProfileService;
 import com.microservices.userservice.api.util.ApiConstants;
+import com.microservices.userservice.api.util.ETags;
+import com.microservices.userservice.api.util.PageParameters;
+import com.microservices.userservice.api.util.SortParameter;
+import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
 @RequestMapping(ApiConstants.MANAGER_PROFILES_BASE_URL)
 public class ManagerProfileController {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("userId", "teamSize", "areaOfResponsibility", "lastUpdate");
+
     private final ManagerProfileService managerProfileService;
+    private final ManagerProfileModelAssembler managerProfileModelAssembler;
 
-    public ManagerProfileController(final ManagerProfileService managerProfileService) {
+    public ManagerProfileController(final ManagerProfileService managerProfileService,
+                                    final ManagerProfileModelAssembler managerProfileModelAssembler) {
         this.managerProfileService = managerProfileService;
+        this.managerProfileModelAssembler = managerProfileModelAssembler;
     }
 
+    /**
+     * Retrieves a page of manager profiles, optionally filtered and sorted. Only the requested
+     * page is read from the database and no count query is issued; hasNext tells whether more follow.
+     * GET /api/v1/manager-profiles
+     *
+     * @param page                 the page number of the pagination (optional)
+     * @param size                 the size of each page, at most 1000 (optional)
+     * @param areaOfResponsibility case-insensitive substring of the area of responsibility (optional)
+     * @param minTeamSize          smallest team size, inclusive (optional)
+     * @param maxTeamSize          largest team size, inclusive (optional)
+     * @param sort                 userId, teamSize, areaOfResponsibility or lastUpdate, optionally followed by ,asc or ,desc (optional)
+     * @param ifNoneMatch          the ETag of the page the client already holds (optional)
+     * @return ResponseEntity containing a slice of ManagerProfileDTO objects with HATEOAS links, or 304 if the page is unchanged
+     */
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
-    public ResponseEntity<List<EntityModel<ManagerProfileDTO>>> getAllManagerProfiles() {
-        List<ManagerProfileDTO> managerProfiles = managerProfileService.getAllManagerProfiles();
-        List<EntityModel<ManagerProfileDTO>> entityModels = managerProfiles.stream()
-                .map(profile -> EntityModel.of(profile,
-                        WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ManagerProfileController.class).getManagerProfileByUserId(profile.getUserId())).withSelfRel()))
-                .toList();
-        return ResponseEntity.ok(entityModels);
+    public ResponseEntity<SliceDTO<EntityModel<ManagerProfileDTO>>> getAllManagerProfiles(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String areaOfResponsibility,
+            @RequestParam(required = false) Integer minTeamSize,
+            @RequestParam(required = false) Integer maxTeamSize,
+            @RequestParam(defaultValue = "userId") String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Pageable pageable = PageParameters.of(page, size, SortParameter.parse(sort, SORTABLE_PROPERTIES, "userId"));
+        SliceDTO<ManagerProfileDTO> managerProfiles = managerProfileService.getManagerProfiles(
+                new ManagerProfileFilter(areaOfResponsibility, minTeamSize, maxTeamSize), pageable);
+        String eTag = ETags.ofList(managerProfiles.isHasNext() ? 1 : 0, managerProfiles.getContent(),
+                ManagerProfileDTO::getUserId, ManagerProfileDTO::getLastUpdate);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(managerProfiles.map(managerProfileModelAssembler::toSelfModel));
     }
 
     /**
@@ -38,16 +76,22 @@ public class ManagerProfileController {
      * GET /api/v1/manager-profiles/{userId}
      *
      * @param userId the UUID of the user associated with the profile
-     * @return ResponseEntity containing ManagerProfileDTO and HATEOAS links
+     * @param ifNoneMatch the ETag of the profile the client already holds (optional)
+     * @return ResponseEntity containing ManagerProfileDTO and HATEOAS links, or 304 if the profile is unchanged
      */
     @GetMapping("/{userId}")
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
-    public ResponseEntity<EntityModel<ManagerProfileDTO>> getManagerProfileByUserId(@PathVariable UUID userId) {
+    public ResponseEntity<EntityModel<ManagerProfileDTO>> getManagerProfileByUserId(@PathVariable UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> currentETag = managerProfileService.getManagerProfileLastUpdate(userId).map(lastUpdate -> ETags.of(userId, lastUpdate));
+            if (currentETag.isPresent() && ETags.matches(ifNoneMatch, currentETag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag.get()).build();
+            }
+        }
         ManagerProfileDTO managerProfile = managerProfileService.getManagerProfileByUserId(userId);
-        EntityModel<ManagerProfileDTO> resource = EntityModel.of(managerProfile,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ManagerProfileController.class).getManagerProfileByUserId(userId)).withSelfRel(),
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ManagerProfileController.class).getAllManagerProfiles()).withRel("allManagerProfiles"));
-        return ResponseEntity.ok(resource);
+        EntityModel<ManagerProfileDTO> resource = managerProfileModelAssembler.toModel(managerProfile);
+        return ResponseEntity.ok().eTag(ETags.of(userId, managerProfile.getLastUpdate())).body(resource);
     }
 
     /**
@@ -61,9 +105,8 @@ public class ManagerProfileController {
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
     public ResponseEntity<EntityModel<ManagerProfileDTO>> createManagerProfile(@RequestBody ManagerProfileDTO managerProfileDTO) {
         ManagerProfileDTO createdProfile = managerProfileService.createManagerProfile(managerProfileDTO);
-        EntityModel<ManagerProfileDTO> resource = EntityModel.of(createdProfile,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ManagerProfileController.class).getManagerProfileByUserId(createdProfile.getUserId())).withSelfRel());
-        return ResponseEntity.created(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ManagerProfileController.class).getManagerProfileByUserId(createdProfile.getUserId())).toUri()).body(resource);
+        EntityModel<ManagerProfileDTO> resource = managerProfileModelAssembler.toSelfModel(createdProfile);
+        return ResponseEntity.created(managerProfileModelAssembler.selfLink(createdProfile.getUserId()).toUri()).body(resource);
     }
 
     /**
@@ -78,10 +121,8 @@ public class ManagerProfileController {
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
     public ResponseEntity<EntityModel<ManagerProfileDTO>> updateManagerProfile(@PathVariable UUID userId, @RequestBody ManagerProfileDTO managerProfileDTO) {
         ManagerProfileDTO updatedProfile = managerProfileService.updateManagerProfile(userId, managerProfileDTO);
-        EntityModel<ManagerProfileDTO> resource = EntityModel.of(updatedProfile,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ManagerProfileController.class).getManagerProfileByUserId(userId)).withSelfRel(),
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ManagerProfileController.class).getAllManagerProfiles()).withRel("allManagerProfiles"));
-        return ResponseEntity.ok(resource);
+        EntityModel<ManagerProfileDTO> resource = managerProfileModelAssembler.toModel(updatedProfile);
+        return ResponseEntity.ok().eTag(ETags.of(userId, updatedProfile.getLastUpdate())).body(resource);
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.microservices.userservice.api.controllers;
+
+import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.services.ReactiveUserQueryService;
+import com.microservices.userservice.api.util.ApiConstants;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking lookups of role profiles, served over R2DBC.
+ */
+@RestController
+public class ReactiveProfileController {
+
+    private final ReactiveUserQueryService reactiveUserQueryService;
+
+    public ReactiveProfileController(final ReactiveUserQueryService reactiveUserQueryService) {
+        this.reactiveUserQueryService = reactiveUserQueryService;
+    }
+
+    /**
+     * Retrieves the administrator profile of a user.
+     * GET /api/v1/reactive/admin-profiles/{userId}
+     *
+     * @param userId the ID of the user
+     * @return the administrator profile
+     */
+    @GetMapping(ApiConstants.REACTIVE_ADMIN_PROFILES_BASE_URL + "/{userId}")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public Mono<AdministratorProfileDTO> getAdministratorProfile(@PathVariable UUID userId) {
+        return reactiveUserQueryService.getAdministratorProfile(userId);
+    }
+
+    /**
+     * Retrieves the manager profile of a user.
+     * GET /api/v1/reactive/manager-profiles/{userId}
+     *
+     * @param userId the ID of the user
+     * @return the manager profile
+     */
+    @GetMapping(ApiConstants.REACTIVE_MANAGER_PROFILES_BASE_URL + "/{userId}")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public Mono<ManagerProfileDTO> getManagerProfile(@PathVariable UUID userId) {
+        return reactiveUserQueryService.getManagerProfile(userId);
+    }
+}
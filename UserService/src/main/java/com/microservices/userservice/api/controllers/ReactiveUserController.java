@@ -0,0 +1,104 @@
+package com.microservices.userservice.api.controllers;
+
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.services.ReactiveUserQueryService;
+import com.microservices.userservice.api.util.ApiConstants;
+import com.microservices.userservice.api.util.Expansion;
+import com.microservices.userservice.api.util.PageParameters;
+import com.microservices.userservice.api.util.UserCursor;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking read endpoints for users, served over R2DBC.
+ * <p>
+ * The handler thread is released as soon as the {@link Mono} or {@link Flux} is returned, and the response
+ * is written when the database answers, so slow clients and slow queries do not hold a request thread.
+ * Responses are plain JSON; the HATEOAS representations and conditional requests stay on {@link UserController}.
+ */
+@RestController
+@RequestMapping(ApiConstants.REACTIVE_USERS_BASE_URL)
+public class ReactiveUserController {
+
+    private final ReactiveUserQueryService reactiveUserQueryService;
+
+    public ReactiveUserController(final ReactiveUserQueryService reactiveUserQueryService) {
+        this.reactiveUserQueryService = reactiveUserQueryService;
+    }
+
+    /**
+     * Retrieves a user by ID.
+     * GET /api/v1/reactive/users/{id}
+     *
+     * @param id     the ID of the user to retrieve
+     * @param expand set to {@code profile} to embed the user's role profiles (optional)
+     * @return the user
+     */
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public Mono<UserDTO> getUserById(@PathVariable UUID id, @RequestParam(required = false) String expand) {
+        return reactiveUserQueryService.getUserById(id, Expansion.fromParameter(expand));
+    }
+
+    /**
+     * Retrieves users using keyset (cursor) pagination ordered by creation date.
+     * The cursor for the next page is returned in a {@code Link} header with {@code rel="next"}.
+     * GET /api/v1/reactive/users
+     *
+     * @param after opaque cursor taken from the previous response's next link (optional)
+     * @param size  the number of users per page
+     * @return ResponseEntity containing the users
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public Mono<ResponseEntity<List<UserDTO>>> getUsers(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int size) {
+        PageParameters.validateSize(size);
+        UserCursor cursor = after == null || after.isEmpty() ? null : UserCursor.decode(after);
+        // Captured now: the current request is bound to this thread only
+        UriComponentsBuilder self = ServletUriComponentsBuilder.fromCurrentRequest();
+        return reactiveUserQueryService.getUsersAfter(cursor, size + 1)
+                .collectList()
+                .map(users -> {
+                    if (users.size() <= size) {
+                        return ResponseEntity.ok(users);
+                    }
+                    List<UserDTO> page = users.subList(0, size);
+                    String next = UserCursor.of(page.get(size - 1)).encode();
+                    Link nextLink = Link.of(self.cloneBuilder().replaceQueryParam("after", next).toUriString(), IanaLinkRelations.NEXT);
+                    return ResponseEntity.ok().header(HttpHeaders.LINK, nextLink.toString()).body(page);
+                });
+    }
+
+    /**
+     * Searches users by email, first name or last name, most relevant first.
+     * GET /api/v1/reactive/users/search
+     *
+     * @param q    the search term
+     * @param page the page number
+     * @param size the number of users per page
+     * @return the matching users
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public Flux<UserDTO> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageParameters.validatePage(page);
+        PageParameters.validateSize(size);
+        return reactiveUserQueryService.searchUsers(q, page, size);
+    }
+}
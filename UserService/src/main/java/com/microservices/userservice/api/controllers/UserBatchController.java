@@ -0,0 +1,76 @@
+package com.microservices.userservice.api.controllers;
+
+import com.microservices.userservice.api.models.dto.UserBatchResultDTO;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserLookupResultDTO;
+import com.microservices.userservice.api.services.UserBatchService;
+import com.microservices.userservice.api.util.ApiConstants;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+public class UserBatchController {
+
+    private final UserBatchService userBatchService;
+
+    public UserBatchController(final UserBatchService userBatchService) {
+        this.userBatchService = userBatchService;
+    }
+
+    /**
+     * Creates many users, optionally with their administrator or manager profile, in one request.
+     * POST /api/v1/users:batch
+     *
+     * @param userDTOs the users to create
+     * @return ResponseEntity containing one result per submitted user, in request order
+     */
+    @PostMapping(ApiConstants.USERS_BATCH_URL)
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<List<UserBatchResultDTO>> createUsers(@RequestBody List<UserDTO> userDTOs) {
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(userBatchService.createUsers(userDTOs));
+    }
+
+    /**
+     * Updates many existing users in one request.
+     * PUT /api/v1/users:batch
+     *
+     * @param userDTOs the users to update, identified by their ID
+     * @return ResponseEntity containing one result per submitted user, in request order
+     */
+    @PutMapping(ApiConstants.USERS_BATCH_URL)
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<List<UserBatchResultDTO>> updateUsers(@RequestBody List<UserDTO> userDTOs) {
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(userBatchService.updateUsers(userDTOs));
+    }
+
+    /**
+     * Deletes many users in one request.
+     * DELETE /api/v1/users:batch
+     *
+     * @param ids the UUIDs of the users to delete
+     * @return ResponseEntity containing one result per submitted ID, in request order
+     */
+    @DeleteMapping(ApiConstants.USERS_BATCH_URL)
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<List<UserBatchResultDTO>> deleteUsers(@RequestBody List<UUID> ids) {
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(userBatchService.deleteUsers(ids));
+    }
+
+    /**
+     * Retrieves many users by ID in one request, instead of one GET per user.
+     * POST /api/v1/users:lookup
+     *
+     * @param ids the UUIDs of the users to retrieve
+     * @return ResponseEntity containing the users found, in request order, and the IDs that do not exist
+     */
+    @PostMapping(ApiConstants.USERS_LOOKUP_URL)
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<UserLookupResultDTO> lookupUsers(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(userBatchService.lookupUsers(ids));
+    }
+}
@@ -0,0 +1,52 @@
+package com.microservices.userservice.api.controllers;
+
+import com.microservices.userservice.api.models.dto.UserChangesDTO;
+import com.microservices.userservice.api.services.UserChangeFeedService;
+import com.microservices.userservice.api.util.ApiConstants;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping(ApiConstants.USER_CHANGES_BASE_URL)
+public class UserChangeController {
+
+    private final UserChangeFeedService userChangeFeedService;
+
+    public UserChangeController(final UserChangeFeedService userChangeFeedService) {
+        this.userChangeFeedService = userChangeFeedService;
+    }
+
+    /**
+     * Retrieves the users created, updated or deleted since a cursor, oldest change first.
+     * Deleted users are returned as tombstones without user data. Start without a cursor for a full
+     * sync, then keep passing the returned {@code next} cursor.
+     * GET /api/v1/users/changes
+     *
+     * @param since the cursor returned by the previous call (optional)
+     * @param size  the maximum number of changes to return
+     * @return ResponseEntity containing the changes, the next cursor and whether more changes are ready
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<UserChangesDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(userChangeFeedService.getChanges(since, size));
+    }
+
+    /**
+     * Streams user changes as server-sent events as soon as they are committed.
+     * Each event id is a cursor that can be passed to {@code GET /api/v1/users/changes} to catch up after a disconnect.
+     * GET /api/v1/users/changes/stream
+     *
+     * @return the event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public SseEmitter streamChanges() {
+        return userChangeFeedService.subscribe();
+    }
+}
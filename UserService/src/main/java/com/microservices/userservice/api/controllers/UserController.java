@@ -1,28 +1,59 @@
 package com.microservices.userservice.api.controllers;
 
+import com.microservices.userservice.api.assemblers.UserModelAssembler;
+import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.dto.SliceDTO;
 import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserPatchDTO;
+import com.microservices.userservice.api.models.dto.UserSuggestionDTO;
 import com.microservices.userservice.api.responses.ApiResponse;
+import com.microservices.userservice.api.services.UserExportService;
 import com.microservices.userservice.api.services.UserService;
+import com.microservices.userservice.api.services.UserSuggestionService;
+import com.microservices.userservice.api.util.ApiConstants;
+import com.microservices.userservice.api.util.DataFormat;
+import com.microservices.userservice.api.util.ETags;
+import com.microservices.userservice.api.util.Expansion;
+import com.microservices.userservice.api.util.PageParameters;
+import com.microservices.userservice.api.util.TotalMode;
+import com.microservices.userservice.api.util.UserCursor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
-@RequestMapping("/api/v1/users")
+@RequestMapping(ApiConstants.USERS_BASE_URL)
 public class UserController {
 
     private final UserService userService;
-    public static final String ALL_USERS_REL = "allUsers";
+    private final UserSuggestionService userSuggestionService;
+    private final UserExportService userExportService;
+    private final UserModelAssembler userModelAssembler;
 
-    public UserController(final UserService userService) {
+    public UserController(final UserService userService, final UserSuggestionService userSuggestionService,
+                          final UserExportService userExportService, final UserModelAssembler userModelAssembler) {
         this.userService = userService;
+        this.userSuggestionService = userSuggestionService;
+        this.userExportService = userExportService;
+        this.userModelAssembler = userModelAssembler;
     }
 
     /**
@@ -32,19 +63,124 @@ public class UserController {
      * @param page   the page number of the pagination
      * @param size   the size of each page
      * @param search optional search query to filter users
-     * @return ResponseEntity containing a page of UserDTO objects with HATEOAS links
+     * @param expand profile to embed each user's role profile, loaded with one extra query for the whole page (optional)
+     * @param ifNoneMatch the ETag of the page the client already holds (optional)
+     * @return ResponseEntity containing a page of UserDTO objects with HATEOAS links, or 304 if the page is unchanged
      */
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
     public ResponseEntity<Page<EntityModel<UserDTO>>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String expand,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Pageable pageable = PageRequest.of(page, size);
         Page<UserDTO> userPage = userService.getAllUsers(pageable, search);
-        return ResponseEntity.ok(userPage.map(user -> EntityModel.of(user,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getUserById(user.getId())).withSelfRel(),
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getAllUsers(page, size, search)).withRel(ALL_USERS_REL))));
+        if (Expansion.fromParameter(expand) == Expansion.PROFILE) {
+            userPage = new PageImpl<>(userService.withProfiles(userPage.getContent()), pageable, userPage.getTotalElements());
+        }
+        String eTag = ETags.ofStates(userPage.getTotalElements(), userPage.getContent(), UserDTO::getId, UserController::representationState);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        Link allUsersLink = userModelAssembler.allUsersLink(page, size, search);
+        return ResponseEntity.ok().eTag(eTag).body(userPage.map(user -> userModelAssembler.toModel(user, allUsersLink)));
+    }
+
+    /**
+     * Retrieves a slice of users without counting every match, optionally with an estimated or exact total.
+     * GET /api/v1/users/slice
+     *
+     * @param page   the page number of the pagination
+     * @param size   the size of each page, between 1 and 1000
+     * @param search optional search query to filter users
+     * @param total  none (default), estimated or exact
+     * @param expand profile to embed each user's role profile (optional)
+     * @return ResponseEntity containing the users, a hasNext flag and the requested total
+     */
+    @GetMapping("/slice")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<SliceDTO<EntityModel<UserDTO>>> getUserSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "none") String total,
+            @RequestParam(required = false) String expand) {
+        SliceDTO<UserDTO> userSlice = userService.getUserSlice(PageParameters.of(page, size, Sort.unsorted()), search, TotalMode.fromParameter(total));
+        if (Expansion.fromParameter(expand) == Expansion.PROFILE) {
+            userSlice.setContent(userService.withProfiles(userSlice.getContent()));
+        }
+        return ResponseEntity.ok(userSlice.map(userModelAssembler::toSelfModel));
+    }
+
+    /**
+     * Retrieves users using keyset (cursor) pagination ordered by creation date.
+     * Unlike offset pagination, no count query is issued and every slice costs the same
+     * regardless of how deep the client has paged.
+     * GET /api/v1/users/cursor
+     *
+     * @param after opaque cursor taken from the previous response's next link (optional)
+     * @param size  the maximum number of users to return, between 1 and 1000
+     * @param expand profile to embed each user's role profile (optional)
+     * @return ResponseEntity containing the users and a next link while more users remain
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<CollectionModel<EntityModel<UserDTO>>> getUsersByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String expand) {
+        PageParameters.validateSize(size);
+        UserCursor cursor = after == null || after.isEmpty() ? null : UserCursor.decode(after);
+        Slice<UserDTO> userSlice = userService.getUsersAfter(cursor, size);
+        List<UserDTO> content = Expansion.fromParameter(expand) == Expansion.PROFILE
+                ? userService.withProfiles(userSlice.getContent())
+                : userSlice.getContent();
+        List<EntityModel<UserDTO>> users = content.stream().map(userModelAssembler::toSelfModel).toList();
+        CollectionModel<EntityModel<UserDTO>> resource = CollectionModel.of(users,
+                userModelAssembler.cursorLink(after, size, expand, IanaLinkRelations.SELF));
+        if (userSlice.hasNext()) {
+            String next = UserCursor.of(userSlice.getContent().get(userSlice.getNumberOfElements() - 1)).encode();
+            resource.add(userModelAssembler.cursorLink(next, size, expand, IanaLinkRelations.NEXT));
+        }
+        return ResponseEntity.ok(resource);
+    }
+
+    /**
+     * Suggests users whose email, first name or last name starts with the given prefix.
+     * Served from an in-memory index, so it is safe to call on every keystroke.
+     * GET /api/v1/users/suggest
+     *
+     * @param prefix the case-insensitive prefix typed by the client
+     * @param limit  the maximum number of suggestions to return (capped at 50)
+     * @return ResponseEntity containing the matching user suggestions
+     */
+    @GetMapping("/suggest")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<List<UserSuggestionDTO>> suggestUsers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userSuggestionService.suggest(prefix, limit));
+    }
+
+    /**
+     * Streams every user as NDJSON or CSV. Rows are written as they are read from a database
+     * cursor, so memory use stays flat regardless of table size and the first bytes are sent immediately.
+     * GET /api/v1/users/export
+     *
+     * @param format the output format, either ndjson or csv
+     * @return ResponseEntity streaming the exported users
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        DataFormat exportFormat = DataFormat.fromParameter(format);
+        StreamingResponseBody body = outputStream -> userExportService.exportUsers(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + exportFormat.getFileExtension() + "\"")
+                .body(body);
     }
 
     /**
@@ -52,16 +188,32 @@ public class UserController {
      * GET /api/v1/users/{id}
      *
      * @param id the UUID of the user
-     * @return ResponseEntity containing UserDTO and HATEOAS links
+     * @param expand profile to embed the user's role profile, read in the same query as the user (optional)
+     * @param ifNoneMatch the ETag of the user the client already holds (optional)
+     * @return ResponseEntity containing UserDTO and HATEOAS links, or 304 if the user is unchanged
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
-    public ResponseEntity<EntityModel<UserDTO>> getUserById(@PathVariable UUID id) {
+    public ResponseEntity<EntityModel<UserDTO>> getUserById(@PathVariable UUID id,
+            @RequestParam(required = false) String expand,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (Expansion.fromParameter(expand) == Expansion.PROFILE) {
+            // The expanded representation also changes with the profiles, which do not bump the user version
+            UserDTO userDTO = userService.getUserWithProfiles(id);
+            String eTag = ETags.ofStates(userDTO.getVersion(), List.of(userDTO), UserDTO::getId, UserController::representationState);
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return ResponseEntity.ok().eTag(eTag).body(userModelAssembler.toModel(userDTO));
+        }
+        if (ifNoneMatch != null) {
+            Optional<String> currentETag = userService.getUserVersion(id).map(version -> ETags.of(id, version));
+            if (currentETag.isPresent() && ETags.matches(ifNoneMatch, currentETag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag.get()).build();
+            }
+        }
         UserDTO userDTO = userService.getUserById(id);
-        EntityModel<UserDTO> resource = EntityModel.of(userDTO,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getUserById(id)).withSelfRel(),
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getAllUsers(0, 10, null)).withRel(ALL_USERS_REL));
-        return ResponseEntity.ok(resource);
+        return ResponseEntity.ok().eTag(ETags.of(id, userDTO.getVersion())).body(userModelAssembler.toModel(userDTO));
     }
 
     /**
@@ -75,9 +227,8 @@ public class UserController {
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
     public ResponseEntity<EntityModel<UserDTO>> createUser(@RequestBody UserDTO userDTO) {
         UserDTO createdUser = userService.createUser(userDTO);
-        EntityModel<UserDTO> resource = EntityModel.of(createdUser,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getUserById(createdUser.getId())).withSelfRel());
-        return ResponseEntity.created(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getUserById(createdUser.getId())).toUri()).body(resource);
+        EntityModel<UserDTO> resource = userModelAssembler.toSelfModel(createdUser);
+        return ResponseEntity.created(userModelAssembler.selfLink(createdUser.getId()).toUri()).body(resource);
     }
 
     /**
@@ -92,10 +243,27 @@ public class UserController {
     @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
     public ResponseEntity<EntityModel<UserDTO>> updateUser(@PathVariable UUID id, @RequestBody UserDTO userDTO) {
         UserDTO updatedUser = userService.updateUser(id, userDTO);
-        EntityModel<UserDTO> resource = EntityModel.of(updatedUser,
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getUserById(id)).withSelfRel(),
-                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class).getAllUsers(0, 10, null)).withRel(ALL_USERS_REL));
-        return ResponseEntity.ok(resource);
+        return ResponseEntity.ok().eTag(ETags.of(id, updatedUser.getVersion())).body(userModelAssembler.toModel(updatedUser));
+    }
+
+    /**
+     * Updates only the fields present in the request body, in a single database round trip.
+     * With an If-Match header holding the user's ETag, the update is rejected with 412 if the user
+     * was changed by someone else in the meantime, instead of silently overwriting that change.
+     * PATCH /api/v1/users/{id}
+     *
+     * @param id       the UUID of the user to update
+     * @param ifMatch  the ETag of the user the client based its changes on (optional)
+     * @param patchDTO the fields to change
+     * @return ResponseEntity containing updated UserDTO, its new ETag and links
+     */
+    @PatchMapping("/{id}")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR') or hasRole('ROLE_MANAGER')")
+    public ResponseEntity<EntityModel<UserDTO>> patchUser(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UserPatchDTO patchDTO) {
+        UserDTO patchedUser = userService.patchUser(id, patchDTO, ETags.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(ETags.of(id, patchedUser.getVersion())).body(userModelAssembler.toModel(patchedUser));
     }
 
     /**
@@ -111,4 +279,26 @@ public class UserController {
         return ResponseEntity.status(apiResponse.getStatus()).body(apiResponse);
     }
 
-}
\ No newline at end of file
+    /**
+     * The state a user's representation depends on: the user's version and modification time, then for each
+     * role whether the profile is embedded, its ID and its modification time. Profiles carry no version, and
+     * removing one that is older than the user must still change the ETag, so presence is part of the state.
+     */
+    private static long[] representationState(UserDTO user) {
+        AdministratorProfileDTO adminProfile = user.getAdministratorProfile();
+        ManagerProfileDTO managerProfile = user.getManagerProfile();
+        return new long[]{
+                user.getVersion(),
+                ETags.toEpochMicros(user.getLastUpdate()),
+                adminProfile == null ? 0 : 1,
+                adminProfile == null ? 0 : adminProfile.getUserId().getMostSignificantBits(),
+                adminProfile == null ? 0 : adminProfile.getUserId().getLeastSignificantBits(),
+                adminProfile == null ? 0 : ETags.toEpochMicros(adminProfile.getLastUpdate()),
+                managerProfile == null ? 0 : 1,
+                managerProfile == null ? 0 : managerProfile.getUserId().getMostSignificantBits(),
+                managerProfile == null ? 0 : managerProfile.getUserId().getLeastSignificantBits(),
+                managerProfile == null ? 0 : ETags.toEpochMicros(managerProfile.getLastUpdate())
+        };
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.microservices.userservice.api.controllers;
+
+import com.microservices.userservice.api.models.dto.UserImportJobDTO;
+import com.microservices.userservice.api.services.UserImportService;
+import com.microservices.userservice.api.util.ApiConstants;
+import com.microservices.userservice.api.util.DataFormat;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping(ApiConstants.USER_IMPORTS_BASE_URL)
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    public UserImportController(final UserImportService userImportService) {
+        this.userImportService = userImportService;
+    }
+
+    /**
+     * Starts an asynchronous bulk import of users from a CSV or NDJSON upload.
+     * CSV files need a header with first_name, last_name, email, password and role columns.
+     * POST /api/v1/users/imports
+     *
+     * @param file   the uploaded file
+     * @param format the format of the file, either csv or ndjson
+     * @return ResponseEntity containing the queued job and a Location header pointing to its status
+     * @throws IOException if the upload cannot be stored
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR')")
+    public ResponseEntity<UserImportJobDTO> importUsers(@RequestParam("file") MultipartFile file,
+                                                        @RequestParam(defaultValue = "csv") String format) throws IOException {
+        UserImportJobDTO job = userImportService.submitImport(DataFormat.fromParameter(format), file);
+        return ResponseEntity.accepted()
+                .location(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserImportController.class).getImportJob(job.getId())).toUri())
+                .body(job);
+    }
+
+    /**
+     * Retrieves the progress of an import job.
+     * GET /api/v1/users/imports/{jobId}
+     *
+     * @param jobId the UUID of the import job
+     * @return ResponseEntity containing the job status and row counters
+     */
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('ROLE_ADMINISTRATOR')")
+    public ResponseEntity<UserImportJobDTO> getImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(userImportService.getImportJob(jobId));
+    }
+}
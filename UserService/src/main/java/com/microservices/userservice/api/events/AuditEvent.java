@@ -0,0 +1,24 @@
+package com.microservices.userservice.api.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed mutation of a user or profile, waiting to be written to the audit log.
+ *
+ * @param occurredAt   when the mutation happened.
+ * @param actor        the authenticated principal that made it, or null for system changes.
+ * @param action       CREATE, UPDATE or DELETE.
+ * @param resourceType USER, ADMINISTRATOR_PROFILE or MANAGER_PROFILE.
+ * @param resourceId   the ID of the user the mutated resource belongs to.
+ */
+public record AuditEvent(LocalDateTime occurredAt, String actor, String action, String resourceType, UUID resourceId) {
+
+    public static final String CREATE = "CREATE";
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+
+    public static final String USER = "USER";
+    public static final String ADMINISTRATOR_PROFILE = "ADMINISTRATOR_PROFILE";
+    public static final String MANAGER_PROFILE = "MANAGER_PROFILE";
+}
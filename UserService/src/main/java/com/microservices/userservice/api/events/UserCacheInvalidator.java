@@ -0,0 +1,38 @@
+package com.microservices.userservice.api.events;
+
+import com.microservices.userservice.api.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts per-instance cache entries for users changed by any instance.
+ */
+@Component
+@Slf4j
+public class UserCacheInvalidator {
+
+    private final Cache usersCache;
+
+    public UserCacheInvalidator(CacheManager cacheManager) {
+        this.usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+    }
+
+    @EventListener
+    public void onUserChange(UserChangeEvent event) {
+        if (event.isResync()) {
+            usersCache.clear();
+            log.info("Cleared the users cache after missing change notifications");
+        } else if (event.bulk()) {
+            // Users inserted in bulk are new, so nothing cached can be stale
+            if (!event.isBulkUserChange() || !UserChangeEvent.INSERT.equals(event.operation())) {
+                usersCache.clear();
+                log.info("Cleared the users cache after a bulk {} on {}", event.operation(), event.table());
+            }
+        } else {
+            usersCache.evict(event.id());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.microservices.userservice.api.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed change to a user or one of its profiles, received from the database.
+ * A resync event means notifications may have been missed and local state must be rebuilt.
+ * A bulk event stands for every row a transaction wrote to the table with that operation; it carries no row data.
+ *
+ * @param table      the table that changed (users, administrator_profiles or manager_profiles).
+ * @param operation  INSERT, UPDATE, DELETE or RESYNC.
+ * @param id         the ID of the affected user, or null for resync and bulk events.
+ * @param email      the user's email, for changes to the users table.
+ * @param firstName  the user's first name, for changes to the users table.
+ * @param lastName   the user's last name, for changes to the users table.
+ * @param softDelete whether the user is soft deleted, for changes to the users table.
+ * @param lastUpdate the modification time of the changed row, or null if unknown.
+ * @param feedXmin   the oldest transaction still running when the change was made, or null if unknown;
+ *                   the change feed from this position on contains the change and everything after it.
+ * @param bulk       whether the event stands for a bulk write whose rows were not announced one by one.
+ */
+public record UserChangeEvent(String table, String operation, UUID id, String email,
+                              String firstName, String lastName, boolean softDelete, LocalDateTime lastUpdate,
+                              Long feedXmin, boolean bulk) {
+
+    public static final String USERS_TABLE = "users";
+    public static final String INSERT = "INSERT";
+    public static final String DELETE = "DELETE";
+    public static final String RESYNC = "RESYNC";
+
+    public static UserChangeEvent resync() {
+        return new UserChangeEvent(null, RESYNC, null, null, null, null, false, null, null, false);
+    }
+
+    public boolean isResync() {
+        return RESYNC.equals(operation);
+    }
+
+    /**
+     * @return true if a single row of the users table changed.
+     */
+    public boolean isUserChange() {
+        return !bulk && USERS_TABLE.equals(table);
+    }
+
+    /**
+     * @return true if rows of the users table were written in bulk and local state derived from them must be rebuilt.
+     */
+    public boolean isBulkUserChange() {
+        return bulk && USERS_TABLE.equals(table);
+    }
+
+    /**
+     * @return true if the user no longer exists or is no longer visible.
+     */
+    public boolean isUserRemoval() {
+        return isUserChange() && (DELETE.equals(operation) || softDelete);
+    }
+}
@@ -0,0 +1,154 @@
+package com.microservices.userservice.api.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Listens on the PostgreSQL {@code user_changes} channel (fed by the triggers from the V5, V10 and V12 migrations)
+ * and republishes every committed change as a {@link UserChangeEvent}, so each UserService instance
+ * can evict its near-caches within milliseconds of a write on any other instance.
+ * <p>
+ * The listener owns a dedicated connection outside the Hikari pool because LISTEN is bound to the
+ * session. If that connection is lost, notifications may have been missed, so after reconnecting a
+ * resync event is published and listeners drop their local state.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class UserChangeNotificationListener implements SmartLifecycle {
+
+    public static final String CHANNEL = "user_changes";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public UserChangeNotificationListener(DataSourceProperties dataSourceProperties, ApplicationEventPublisher eventPublisher,
+                                          ObjectMapper objectMapper,
+                                          @Value("${app.cache.invalidation.poll-timeout-ms}") int pollTimeoutMs,
+                                          @Value("${app.cache.invalidation.reconnect-delay-ms}") long reconnectDelayMs) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "user-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeConnection();
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try {
+                connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for user changes on channel '{}'", CHANNEL);
+                if (reconnecting) {
+                    eventPublisher.publishEvent(UserChangeEvent.resync());
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            publish(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("User change listener lost its connection, reconnecting in {} ms: {}", reconnectDelayMs, e.getMessage());
+                    reconnecting = true;
+                    sleepBeforeReconnect();
+                }
+            } finally {
+                closeConnection();
+            }
+        }
+    }
+
+    private void publish(String payload) {
+        try {
+            JsonNode change = objectMapper.readTree(payload);
+            eventPublisher.publishEvent(new UserChangeEvent(
+                    change.path("table").asText(),
+                    change.path("operation").asText(),
+                    change.hasNonNull("id") ? UUID.fromString(change.get("id").asText()) : null,
+                    change.path("email").textValue(),
+                    change.path("firstName").textValue(),
+                    change.path("lastName").textValue(),
+                    change.path("softDelete").asBoolean(false),
+                    change.hasNonNull("lastUpdate") ? LocalDateTime.parse(change.get("lastUpdate").asText()) : null,
+                    change.hasNonNull("feedXmin") ? change.get("feedXmin").asLong() : null,
+                    change.path("bulk").asBoolean(false)));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed user change notification '{}': {}", payload, e.getMessage());
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Error closing user change listener connection: {}", e.getMessage());
+            }
+        }
+    }
+}
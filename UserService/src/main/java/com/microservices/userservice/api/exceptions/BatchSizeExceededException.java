@@ -0,0 +1,15 @@
+package com.microservices.userservice.api.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class BatchSizeExceededException extends StacklessException {
+    private final int size;
+    private final int maxSize;
+
+    public BatchSizeExceededException(String message, int size, int maxSize) {
+        super(message);
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+}
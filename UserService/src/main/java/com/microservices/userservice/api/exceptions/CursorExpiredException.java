@@ -0,0 +1,14 @@
+package com.microservices.userservice.api.exceptions;
+
+public class CursorExpiredException extends StacklessException {
+    private final String cursor;
+
+    public CursorExpiredException(String message, String cursor) {
+        super(message);
+        this.cursor = cursor;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+}
@@ -1,6 +1,6 @@
 package com.microservices.userservice.api.exceptions;
 
-public class DuplicateEmailException extends RuntimeException {
+public class DuplicateEmailException extends StacklessException {
     private final String email;
 
     public DuplicateEmailException(String message, String email) {
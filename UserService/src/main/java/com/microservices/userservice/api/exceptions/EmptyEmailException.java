@@ -1,6 +1,6 @@
 package com.microservices.userservice.api.exceptions;
 
-public class EmptyEmailException extends RuntimeException {
+public class EmptyEmailException extends StacklessException {
     private final String email;
 
     public EmptyEmailException(String message, String email) {
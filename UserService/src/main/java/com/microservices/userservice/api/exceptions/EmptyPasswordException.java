@@ -1,6 +1,6 @@
 package com.microservices.userservice.api.exceptions;
 
-public class EmptyPasswordException extends RuntimeException {
+public class EmptyPasswordException extends StacklessException {
     public EmptyPasswordException(String message) {
         super(message);
     }
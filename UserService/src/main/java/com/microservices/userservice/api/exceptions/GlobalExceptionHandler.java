@@ -1,22 +1,41 @@
 package com.microservices.userservice.api.exceptions;
 
+import com.microservices.userservice.api.repositories.UserRepository;
 import com.microservices.userservice.api.responses.ApiResponse;
+import com.microservices.userservice.api.services.implementation.LocalizedMessages;
+import com.microservices.userservice.api.util.RateLimitedLogger;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
-import org.springframework.context.i18n.LocaleContextHolder;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps exceptions to API responses.
+ * <p>
+ * Client errors are cheap by design: domain exceptions are stackless and usually carry a message
+ * already resolved at the throw site, which is reused instead of being looked up again, and their
+ * WARN lines are rate-limited so bad-client traffic cannot flood the logs.
+ */
 @ControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
-    private final MessageSource messageSource;
+    private static final int CLIENT_ERROR_LOGS_PER_SECOND = 20;
+
+    private final LocalizedMessages localizedMessages;
+    private final RateLimitedLogger clientErrorLog = new RateLimitedLogger(log, CLIENT_ERROR_LOGS_PER_SECOND, Duration.ofSeconds(1));
 
     private static final String RESOURCE_NOT_FOUND_MSG = "resource.not.found";
     private static final String EMAIL_REQUIRED_MSG = "email.required";
@@ -25,10 +44,16 @@ public class GlobalExceptionHandler {
     private static final String PASSWORD_REQUIRED_MSG = "password.required";
     private static final String PASSWORD_INVALID_MSG = "password.invalid";
     private static final String INVALID_UUID_MSG = "invalid.uuid";
+    private static final String INVALID_CURSOR_MSG = "invalid.cursor";
+    private static final String BATCH_TOO_LARGE_MSG = "batch.too.large";
+    private static final String INVALID_DATA_FORMAT_MSG = "invalid.data.format";
+    private static final String INVALID_PARAMETER_MSG = "invalid.parameter";
+    private static final String PRECONDITION_FAILED_MSG = "precondition.failed";
     private static final String INTERNAL_SERVER_ERROR_MSG = "internal.server.error";
+    private static final Pattern DUPLICATE_KEY_DETAIL = Pattern.compile("\\)=\\((.*)\\) already exists");
 
-    public GlobalExceptionHandler(MessageSource messageSource) {
-        this.messageSource = messageSource;
+    public GlobalExceptionHandler(LocalizedMessages localizedMessages) {
+        this.localizedMessages = localizedMessages;
     }
 
     private ResponseEntity<ApiResponse> buildResponseEntity(HttpStatus status, String message) {
@@ -38,65 +63,151 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
-        String message = messageSource.getMessage(RESOURCE_NOT_FOUND_MSG, new Object[]{ex.getResourceId()}, LocaleContextHolder.getLocale());
+        String message = ex.getMessage() != null ? ex.getMessage() : localizedMessages.format(RESOURCE_NOT_FOUND_MSG, ex.getResourceId());
+        clientErrorLog.warn(message);
         return buildResponseEntity(HttpStatus.NOT_FOUND, message);
     }
 
     @ExceptionHandler(InvalidEmailException.class)
     public ResponseEntity<ApiResponse> handleInvalidEmailException(InvalidEmailException ex) {
-        String message = messageSource.getMessage(INVALID_EMAIL_MSG, new Object[]{ex.getEmail()}, LocaleContextHolder.getLocale());
+        String message = ex.getMessage() != null ? ex.getMessage() : localizedMessages.format(INVALID_EMAIL_MSG, ex.getEmail());
+        clientErrorLog.warn("The provided email address '{}' is invalid.", ex.getEmail());
         return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
     }
 
     @ExceptionHandler(EmptyEmailException.class)
-    public ResponseEntity<ApiResponse> handleEmptyEmailException() {
-        String message = messageSource.getMessage(EMAIL_REQUIRED_MSG, null, LocaleContextHolder.getLocale());
+    public ResponseEntity<ApiResponse> handleEmptyEmailException(EmptyEmailException ex) {
+        String message = ex.getMessage() != null ? ex.getMessage() : localizedMessages.get(EMAIL_REQUIRED_MSG);
+        clientErrorLog.warn("The email field is required.");
         return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
     }
 
     @ExceptionHandler(DuplicateEmailException.class)
     public ResponseEntity<ApiResponse> handleDuplicateEmailException(DuplicateEmailException ex) {
-        String message = messageSource.getMessage(EMAIL_EXISTS_MSG, new Object[]{ex.getEmail()}, LocaleContextHolder.getLocale());
+        String message = localizedMessages.format(EMAIL_EXISTS_MSG, ex.getEmail());
+        clientErrorLog.warn("A user with the email '{}' already exists.", ex.getEmail());
+        return buildResponseEntity(HttpStatus.CONFLICT, message);
+    }
+
+    /**
+     * Translates a violation of the users email constraint into the same 409 response as
+     * {@link DuplicateEmailException}. Other integrity violations are unexpected and handled as such.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        ServerErrorMessage serverError = findServerErrorMessage(ex);
+        if (serverError == null || !UserRepository.EMAIL_UNIQUE_CONSTRAINT.equals(serverError.getConstraint())) {
+            return handleGlobalException(ex);
+        }
+        String email = extractDuplicateValue(serverError.getDetail());
+        String message = localizedMessages.format(EMAIL_EXISTS_MSG, email);
+        clientErrorLog.warn("A user with the email '{}' already exists.", email);
         return buildResponseEntity(HttpStatus.CONFLICT, message);
     }
 
     @ExceptionHandler(EmptyPasswordException.class)
-    public ResponseEntity<ApiResponse> handleEmptyPasswordException() {
-        String message = messageSource.getMessage(PASSWORD_REQUIRED_MSG, null, LocaleContextHolder.getLocale());
+    public ResponseEntity<ApiResponse> handleEmptyPasswordException(EmptyPasswordException ex) {
+        String message = ex.getMessage() != null ? ex.getMessage() : localizedMessages.get(PASSWORD_REQUIRED_MSG);
+        clientErrorLog.warn("The password field is required.");
         return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
     }
 
     @ExceptionHandler(InvalidPasswordException.class)
     public ResponseEntity<ApiResponse> handleInvalidPasswordException(InvalidPasswordException ex) {
-        String message = messageSource.getMessage(PASSWORD_INVALID_MSG, new Object[]{ex.getPassword().length(), 8, 20}, LocaleContextHolder.getLocale());
+        String message = ex.getMessage() != null ? ex.getMessage()
+                : localizedMessages.format(PASSWORD_INVALID_MSG, ex.getPasswordLength(), 8, 20);
+        clientErrorLog.warn("The provided password is invalid. Password must be between 8 and 20 characters long.");
+        return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        String message = localizedMessages.get(INVALID_CURSOR_MSG);
+        clientErrorLog.warn("Invalid pagination cursor: {}", ex.getCursor());
+        return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
+    }
+
+    @ExceptionHandler(CursorExpiredException.class)
+    public ResponseEntity<ApiResponse> handleCursorExpiredException(CursorExpiredException ex) {
+        clientErrorLog.warn("Expired change feed cursor: {}", ex.getCursor());
+        return buildResponseEntity(HttpStatus.GONE, ex.getMessage());
+    }
+
+    @ExceptionHandler(BatchSizeExceededException.class)
+    public ResponseEntity<ApiResponse> handleBatchSizeExceededException(BatchSizeExceededException ex) {
+        String message = localizedMessages.format(BATCH_TOO_LARGE_MSG, ex.getSize(), ex.getMaxSize());
+        clientErrorLog.warn(message);
+        return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
+    }
+
+    @ExceptionHandler(InvalidDataFormatException.class)
+    public ResponseEntity<ApiResponse> handleInvalidDataFormatException(InvalidDataFormatException ex) {
+        String message = localizedMessages.format(INVALID_DATA_FORMAT_MSG, ex.getFormat());
+        clientErrorLog.warn(message);
         return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
     }
 
+    @ExceptionHandler(InvalidParameterException.class)
+    public ResponseEntity<ApiResponse> handleInvalidParameterException(InvalidParameterException ex) {
+        String message = localizedMessages.format(INVALID_PARAMETER_MSG, ex.getParameter(), ex.getValue());
+        clientErrorLog.warn(message);
+        return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        String message = ex.getMessage() != null ? ex.getMessage() : localizedMessages.format(PRECONDITION_FAILED_MSG, ex.getResourceId());
+        clientErrorLog.warn(message);
+        return buildResponseEntity(HttpStatus.PRECONDITION_FAILED, message);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse> handleObjectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex) {
+        String message = localizedMessages.format(PRECONDITION_FAILED_MSG, ex.getIdentifier());
+        clientErrorLog.warn(message);
+        return buildResponseEntity(HttpStatus.PRECONDITION_FAILED, message);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ApiResponse> handleMethodArgumentTypeMismatchException() {
-        String message = messageSource.getMessage(INVALID_UUID_MSG, null, LocaleContextHolder.getLocale());
-        log.warn(message);
+        String message = localizedMessages.get(INVALID_UUID_MSG);
+        clientErrorLog.warn(message);
         return buildResponseEntity(HttpStatus.BAD_REQUEST, message);
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
         String details = "The request body is invalid or malformed.";
-        log.warn("Invalid request body: {}", ex.getMessage());
+        clientErrorLog.warn("Invalid request body: {}", ex.getMessage());
         return buildResponseEntity(HttpStatus.BAD_REQUEST, details);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse> handleGlobalException(Exception ex) {
-        String message = messageSource.getMessage(INTERNAL_SERVER_ERROR_MSG, null, LocaleContextHolder.getLocale());
+        String message = localizedMessages.get(INTERNAL_SERVER_ERROR_MSG);
         log.error("An unexpected error occurred: {}", ex.getMessage(), ex);
         return buildResponseEntity(HttpStatus.INTERNAL_SERVER_ERROR, message);
     }
 
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ApiResponse> handleAccessDeniedException(AccessDeniedException ex) {
-        log.warn("Access denied warning: {}", ex.getMessage());
+        clientErrorLog.warn("Access denied warning: {}", ex.getMessage());
         String message = "Access is denied";
         return buildResponseEntity(HttpStatus.FORBIDDEN, message);
     }
-}
\ No newline at end of file
+
+    private ServerErrorMessage findServerErrorMessage(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psqlException) {
+                return psqlException.getServerErrorMessage();
+            }
+        }
+        return null;
+    }
+
+    // PostgreSQL reports unique violations as "Key (email)=(value) already exists."
+    private String extractDuplicateValue(String detail) {
+        Matcher matcher = detail == null ? null : DUPLICATE_KEY_DETAIL.matcher(detail);
+        return matcher != null && matcher.find() ? matcher.group(1) : "";
+    }
+}
@@ -0,0 +1,14 @@
+package com.microservices.userservice.api.exceptions;
+
+public class InvalidCursorException extends StacklessException {
+    private final String cursor;
+
+    public InvalidCursorException(String message, String cursor) {
+        super(message);
+        this.cursor = cursor;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+}
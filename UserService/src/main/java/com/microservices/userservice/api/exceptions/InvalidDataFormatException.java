@@ -0,0 +1,14 @@
+package com.microservices.userservice.api.exceptions;
+
+public class InvalidDataFormatException extends StacklessException {
+    private final String format;
+
+    public InvalidDataFormatException(String message, String format) {
+        super(message);
+        this.format = format;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+}
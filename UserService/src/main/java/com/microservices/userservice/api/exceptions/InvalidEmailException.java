@@ -1,6 +1,6 @@
 package com.microservices.userservice.api.exceptions;
 
-public class InvalidEmailException extends RuntimeException {
+public class InvalidEmailException extends StacklessException {
     private final String email;
 
     public InvalidEmailException(String message, String email) {
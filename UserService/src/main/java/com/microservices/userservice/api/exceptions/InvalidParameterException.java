@@ -0,0 +1,15 @@
+package com.microservices.userservice.api.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidParameterException extends StacklessException {
+    private final String parameter;
+    private final String value;
+
+    public InvalidParameterException(String message, String parameter, String value) {
+        super(message);
+        this.parameter = parameter;
+        this.value = value;
+    }
+}
@@ -5,7 +5,7 @@ import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
-public class InvalidPasswordException extends RuntimeException {
+public class InvalidPasswordException extends StacklessException {
     private final String password;
     private final int passwordLength;
 
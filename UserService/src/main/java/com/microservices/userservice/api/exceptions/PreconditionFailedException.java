@@ -0,0 +1,15 @@
+package com.microservices.userservice.api.exceptions;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class PreconditionFailedException extends StacklessException {
+    private final UUID resourceId;
+
+    public PreconditionFailedException(String message, UUID resourceId) {
+        super(message);
+        this.resourceId = resourceId;
+    }
+}
@@ -7,7 +7,7 @@ import java.io.Serializable;
 
 @AllArgsConstructor
 @Getter
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends StacklessException {
     private final Serializable resourceId;
 
     public ResourceNotFoundException(String message, Serializable resourceId) {
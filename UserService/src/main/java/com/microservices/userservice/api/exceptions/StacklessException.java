@@ -0,0 +1,19 @@
+package com.microservices.userservice.api.exceptions;
+
+/**
+ * Base class for expected domain errors that are turned into 4xx responses.
+ * <p>
+ * These exceptions describe bad input, not bugs, and are never logged with a stack trace,
+ * so capturing one is pure overhead. Disabling the stack trace and suppression makes
+ * throwing them about as cheap as allocating the exception object.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException() {
+        this(null);
+    }
+
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -3,6 +3,7 @@ package com.microservices.userservice.api.models.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
@@ -11,5 +12,6 @@ public class AdministratorProfileDTO {
     private UUID userId;
     private String department;
     private String permissionsLevel;
+    private LocalDateTime lastUpdate;
 
 }
\ No newline at end of file
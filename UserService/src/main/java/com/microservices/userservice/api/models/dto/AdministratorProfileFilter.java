@@ -0,0 +1,11 @@
+package com.microservices.userservice.api.models.dto;
+
+/**
+ * Optional filters for listing administrator profiles. Null fields do not filter.
+ *
+ * @param department       exact department.
+ * @param permissionsLevel exact permissions level.
+ * @param search           case-insensitive substring of the department.
+ */
+public record AdministratorProfileFilter(String department, String permissionsLevel, String search) {
+}
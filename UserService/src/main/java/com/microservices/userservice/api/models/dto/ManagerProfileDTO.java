@@ -3,6 +3,7 @@ package com.microservices.userservice.api.models.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
@@ -11,5 +12,6 @@ public class ManagerProfileDTO {
     private UUID userId;
     private Integer teamSize;
     private String areaOfResponsibility;
+    private LocalDateTime lastUpdate;
 
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.microservices.userservice.api.models.dto;
+
+/**
+ * Optional filters for listing manager profiles. Null fields do not filter.
+ *
+ * @param areaOfResponsibility case-insensitive substring of the area of responsibility.
+ * @param minTeamSize          smallest team size, inclusive.
+ * @param maxTeamSize          largest team size, inclusive.
+ */
+public record ManagerProfileFilter(String areaOfResponsibility, Integer minTeamSize, Integer maxTeamSize) {
+}
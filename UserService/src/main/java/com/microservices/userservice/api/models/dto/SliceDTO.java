@@ -0,0 +1,34 @@
+package com.microservices.userservice.api.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of results that does not require a count query.
+ * {@code totalElements} is only present when the client asked for a total, and
+ * {@code totalExact} tells whether it was counted or estimated.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceDTO<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long totalElements;
+    private Boolean totalExact;
+
+    public <R> SliceDTO<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new SliceDTO<>(converted, page, size, hasNext, totalElements, totalExact);
+    }
+}
@@ -0,0 +1,19 @@
+package com.microservices.userservice.api.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserBatchResultDTO {
+    private int index;
+    private UUID id;
+    private int status;
+    private String message;
+}
@@ -0,0 +1,27 @@
+package com.microservices.userservice.api.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One entry of the user change feed. Deletions are tombstones: they carry the ID but no user.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserChangeDTO {
+    public static final String UPSERT = "UPSERT";
+    public static final String DELETE = "DELETE";
+
+    private UUID id;
+    private String type;
+    private LocalDateTime changedAt;
+    private String cursor;
+    private UserDTO user;
+}
@@ -0,0 +1,20 @@
+package com.microservices.userservice.api.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of the user change feed. {@code next} is the cursor to send as {@code since} on the following
+ * call; it is returned even when there are no changes, so clients can keep polling with it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserChangesDTO {
+    private List<UserChangeDTO> changes;
+    private String next;
+    private boolean hasMore;
+}
@@ -1,5 +1,6 @@
 package com.microservices.userservice.api.models.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,5 +19,13 @@ public class UserDTO {
     private LocalDateTime lastUpdate;
     private boolean softDelete;
     private String role;
+    private long version;
 
-}
\ No newline at end of file
+    // Optional role profiles, only present when supplied or explicitly requested
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AdministratorProfileDTO administratorProfile;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ManagerProfileDTO managerProfile;
+
+}
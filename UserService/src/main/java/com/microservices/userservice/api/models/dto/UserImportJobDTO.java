@@ -0,0 +1,31 @@
+package com.microservices.userservice.api.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportJobDTO {
+    private UUID id;
+    private Status status;
+    private String format;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long rowsRead;
+    private long rowsRejected;
+    private long rowsImported;
+    private long rowsSkipped;
+    private double rowsPerSecond;
+    private List<String> errors;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
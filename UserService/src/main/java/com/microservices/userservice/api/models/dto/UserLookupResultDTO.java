@@ -0,0 +1,19 @@
+package com.microservices.userservice.api.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The users found by a batch lookup, in request order, and the requested IDs that do not exist.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserLookupResultDTO {
+    private List<UserDTO> users;
+    private List<UUID> missing;
+}
@@ -0,0 +1,50 @@
+package com.microservices.userservice.api.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+/**
+ * Partial update of a user. Only the fields present in the request body are changed;
+ * an explicit null clears a nullable field such as lastName.
+ */
+@Getter
+public class UserPatchDTO {
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String password;
+
+    @JsonIgnore
+    private boolean firstNameSet;
+    @JsonIgnore
+    private boolean lastNameSet;
+    @JsonIgnore
+    private boolean emailSet;
+    @JsonIgnore
+    private boolean passwordSet;
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+        this.firstNameSet = true;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+        this.lastNameSet = true;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailSet = true;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+        this.passwordSet = true;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return !firstNameSet && !lastNameSet && !emailSet && !passwordSet;
+    }
+}
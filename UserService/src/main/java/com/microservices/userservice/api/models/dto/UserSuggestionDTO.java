@@ -0,0 +1,17 @@
+package com.microservices.userservice.api.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSuggestionDTO {
+    private UUID id;
+    private String email;
+    private String firstName;
+    private String lastName;
+}
@@ -1,12 +1,10 @@
 package com.microservices.userservice.api.models.entities;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
+import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
@@ -24,4 +22,13 @@ public class AdministratorProfileEntity {
     @Column(name = "permissions_level")
     private String permissionsLevel;
 
+    @Column
+    private LocalDateTime lastUpdate;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        lastUpdate = LocalDateTime.now();
+    }
+
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.microservices.userservice.api.models.entities;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -11,7 +12,15 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "users")
+@SQLRestriction(UserEntity.NOT_DELETED)
 public class UserEntity {
+
+    /**
+     * Predicate selecting live users. Entity queries apply it automatically; native queries must
+     * include it, both for correctness and so PostgreSQL can use the partial indexes from V9.
+     */
+    public static final String NOT_DELETED = "soft_delete = false";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
@@ -22,7 +31,7 @@ public class UserEntity {
     @Column
     private String lastName;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -40,6 +49,14 @@ public class UserEntity {
     @Column(nullable = false)
     private String role;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // Set by a database trigger to the writing transaction; orders the change feed
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long changeXid;
+
     @PrePersist
     protected void onCreate() {
         creationDate = LocalDateTime.now();
@@ -0,0 +1,12 @@
+package com.microservices.userservice.api.models.entities;
+
+/**
+ * A user read together with its role profiles in one query. A profile is null when the user has none.
+ *
+ * @param user                 the user.
+ * @param administratorProfile the administrator profile, or null.
+ * @param managerProfile       the manager profile, or null.
+ */
+public record UserWithProfiles(UserEntity user, AdministratorProfileEntity administratorProfile,
+                               ManagerProfileEntity managerProfile) {
+}
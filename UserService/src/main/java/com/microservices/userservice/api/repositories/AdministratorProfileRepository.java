@@ -1,9 +1,32 @@
 package com.microservices.userservice.api.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.microservices.userservice.api.models.entities.AdministratorProfileEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface AdministratorProfileRepository extends JpaRepository<AdministratorProfileEntity, UUID> {
+public interface AdministratorProfileRepository extends JpaRepository<AdministratorProfileEntity, UUID>, AdministratorProfileRepositoryCustom {
+
+    /**
+     * Reads only the last modification time of an administrator profile, for answering conditional requests
+     * without loading the entity.
+     *
+     * @param userId the ID of the user the profile belongs to.
+     * @return the last modification time, or empty if the profile does not exist or its user was deleted.
+     */
+    @Query("SELECT p.lastUpdate FROM AdministratorProfileEntity p WHERE p.userId = :userId AND " + UserRepository.PROFILE_OF_LIVE_USER)
+    Optional<LocalDateTime> findLastUpdateByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Reads the administrator profile of a user that is not soft deleted.
+     *
+     * @param userId the ID of the user the profile belongs to.
+     * @return the profile, or empty if it does not exist or its user was deleted.
+     */
+    @Query("SELECT p FROM AdministratorProfileEntity p WHERE p.userId = :userId AND " + UserRepository.PROFILE_OF_LIVE_USER)
+    Optional<AdministratorProfileEntity> findLiveById(@Param("userId") UUID userId);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.microservices.userservice.api.repositories;
+
+import com.microservices.userservice.api.models.dto.AdministratorProfileFilter;
+import com.microservices.userservice.api.models.entities.AdministratorProfileEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface AdministratorProfileRepositoryCustom {
+
+    /**
+     * Finds a slice of administrator profiles matching the given filters. Only the filters that are set
+     * become predicates, so each combination can use its index.
+     *
+     * @param filter   the filters to apply.
+     * @param pageable the pagination and sorting information.
+     * @return a slice of matching profiles.
+     */
+    Slice<AdministratorProfileEntity> findSlice(AdministratorProfileFilter filter, Pageable pageable);
+}
@@ -0,0 +1,44 @@
+package com.microservices.userservice.api.repositories;
+
+import com.microservices.userservice.api.models.dto.AdministratorProfileFilter;
+import com.microservices.userservice.api.models.entities.AdministratorProfileEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class AdministratorProfileRepositoryCustomImpl implements AdministratorProfileRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<AdministratorProfileEntity> findSlice(AdministratorProfileFilter filter, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AdministratorProfileEntity> query = criteriaBuilder.createQuery(AdministratorProfileEntity.class);
+        Root<AdministratorProfileEntity> root = query.from(AdministratorProfileEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(ProfileQueries.ownerIsLive(criteriaBuilder, query, root.get("userId")));
+        if (filter.department() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("department"), filter.department()));
+        }
+        if (filter.permissionsLevel() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("permissionsLevel"), filter.permissionsLevel()));
+        }
+        if (filter.search() != null && !filter.search().isEmpty()) {
+            predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.<String>get("department")),
+                    SliceQueries.toContainsPattern(filter.search().toLowerCase(Locale.ROOT)), '\\'));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        return SliceQueries.fetch(entityManager, query, root, pageable);
+    }
+}
@@ -1,9 +1,32 @@
 package com.microservices.userservice.api.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.microservices.userservice.api.models.entities.ManagerProfileEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ManagerProfileRepository extends JpaRepository<ManagerProfileEntity, UUID> {
+public interface ManagerProfileRepository extends JpaRepository<ManagerProfileEntity, UUID>, ManagerProfileRepositoryCustom {
+
+    /**
+     * Reads only the last modification time of a manager profile, for answering conditional requests
+     * without loading the entity.
+     *
+     * @param userId the ID of the user the profile belongs to.
+     * @return the last modification time, or empty if the profile does not exist or its user was deleted.
+     */
+    @Query("SELECT p.lastUpdate FROM ManagerProfileEntity p WHERE p.userId = :userId AND " + UserRepository.PROFILE_OF_LIVE_USER)
+    Optional<LocalDateTime> findLastUpdateByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Reads the manager profile of a user that is not soft deleted.
+     *
+     * @param userId the ID of the user the profile belongs to.
+     * @return the profile, or empty if it does not exist or its user was deleted.
+     */
+    @Query("SELECT p FROM ManagerProfileEntity p WHERE p.userId = :userId AND " + UserRepository.PROFILE_OF_LIVE_USER)
+    Optional<ManagerProfileEntity> findLiveById(@Param("userId") UUID userId);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.microservices.userservice.api.repositories;
+
+import com.microservices.userservice.api.models.dto.ManagerProfileFilter;
+import com.microservices.userservice.api.models.entities.ManagerProfileEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface ManagerProfileRepositoryCustom {
+
+    /**
+     * Finds a slice of manager profiles matching the given filters. Only the filters that are set
+     * become predicates, so each combination can use its index.
+     *
+     * @param filter   the filters to apply.
+     * @param pageable the pagination and sorting information.
+     * @return a slice of matching profiles.
+     */
+    Slice<ManagerProfileEntity> findSlice(ManagerProfileFilter filter, Pageable pageable);
+}
@@ -0,0 +1,44 @@
+package com.microservices.userservice.api.repositories;
+
+import com.microservices.userservice.api.models.dto.ManagerProfileFilter;
+import com.microservices.userservice.api.models.entities.ManagerProfileEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class ManagerProfileRepositoryCustomImpl implements ManagerProfileRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<ManagerProfileEntity> findSlice(ManagerProfileFilter filter, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ManagerProfileEntity> query = criteriaBuilder.createQuery(ManagerProfileEntity.class);
+        Root<ManagerProfileEntity> root = query.from(ManagerProfileEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(ProfileQueries.ownerIsLive(criteriaBuilder, query, root.get("userId")));
+        if (filter.areaOfResponsibility() != null && !filter.areaOfResponsibility().isEmpty()) {
+            predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.<String>get("areaOfResponsibility")),
+                    SliceQueries.toContainsPattern(filter.areaOfResponsibility().toLowerCase(Locale.ROOT)), '\\'));
+        }
+        if (filter.minTeamSize() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<Integer>get("teamSize"), filter.minTeamSize()));
+        }
+        if (filter.maxTeamSize() != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(root.<Integer>get("teamSize"), filter.maxTeamSize()));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        return SliceQueries.fetch(entityManager, query, root, pageable);
+    }
+}
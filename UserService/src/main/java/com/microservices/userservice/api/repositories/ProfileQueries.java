@@ -0,0 +1,32 @@
+package com.microservices.userservice.api.repositories;
+
+import com.microservices.userservice.api.models.entities.UserEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.util.UUID;
+
+/**
+ * Criteria building blocks shared by the profile repositories.
+ */
+final class ProfileQueries {
+
+    private ProfileQueries() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Criteria form of {@link UserRepository#PROFILE_OF_LIVE_USER}: the profile's user exists and is not soft deleted.
+     */
+    static Predicate ownerIsLive(CriteriaBuilder criteriaBuilder, CriteriaQuery<?> query, Path<UUID> userId) {
+        Subquery<UUID> liveUser = query.subquery(UUID.class);
+        Root<UserEntity> user = liveUser.from(UserEntity.class);
+        liveUser.select(user.get("id"))
+                .where(criteriaBuilder.equal(user.get("id"), userId), criteriaBuilder.isFalse(user.get("softDelete")));
+        return criteriaBuilder.exists(liveUser);
+    }
+}
@@ -1,27 +1,271 @@
 package com.microservices.userservice.api.repositories;
 
+import com.microservices.userservice.api.models.dto.UserSuggestionDTO;
 import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.models.entities.UserWithProfiles;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<UserEntity, UUID> {
+    /**
+     * Searchable document indexed by idx_users_search_trgm (see V4 migration).
+     */
+    String SEARCH_DOCUMENT = "lower(email || ' ' || first_name || ' ' || coalesce(last_name, ''))";
+
+    /**
+     * Partial unique index on users.email over live users (see V9 migration). Writes rely on it
+     * instead of checking for an existing email first.
+     */
+    String EMAIL_UNIQUE_CONSTRAINT = "users_email_live_key";
+
+    /**
+     * Changes whose writing transaction is older than every transaction still running (see V10 migration).
+     * Such a transaction has committed or aborted, so the set of rows below this bound can no longer grow.
+     */
+    String SETTLED_CHANGE = "change_xid < pg_snapshot_xmin(pg_current_snapshot())::TEXT::BIGINT";
+
+    /**
+     * Announces the rest of the current transaction's writes with one notification per table and operation
+     * instead of one per row (see V12 migration). For bulk writes whose rows listeners cannot usefully apply one by one.
+     */
+    String BULK_CHANGE_NOTIFICATIONS = "SELECT set_config('app.user_changes', 'bulk', true)";
+
+    /**
+     * Sends no change notifications for the rest of the current transaction (see V12 migration).
+     */
+    String NO_CHANGE_NOTIFICATIONS = "SELECT set_config('app.user_changes', 'off', true)";
+
+    /**
+     * Live users matching a search pattern, in the form served by the partial idx_users_search_trgm.
+     */
+    String SEARCH_PREDICATE = UserEntity.NOT_DELETED + " AND " + SEARCH_DOCUMENT + " LIKE :pattern";
+
+    /**
+     * JPQL predicate on a profile aliased {@code p}: its user exists and is not soft deleted. Profiles stay in
+     * place when their user is soft deleted, until the purge removes both, so every profile read needs it.
+     */
+    String PROFILE_OF_LIVE_USER = "EXISTS (SELECT u.id FROM UserEntity u WHERE u.id = p.userId AND u.softDelete = false)";
+
+    /**
+     * SQL form of {@link #PROFILE_OF_LIVE_USER}, for a profile table aliased {@code p}.
+     */
+    String PROFILE_OF_LIVE_USER_SQL = "EXISTS (SELECT 1 FROM users u WHERE u.id = p.user_id AND u.soft_delete = false)";
+
+    /**
+     * Users LEFT JOINed with both profile tables on their shared primary key.
+     */
+    String WITH_PROFILES = "SELECT new com.microservices.userservice.api.models.entities.UserWithProfiles(u, a, m) FROM UserEntity u "
+            + "LEFT JOIN AdministratorProfileEntity a ON a.userId = u.id "
+            + "LEFT JOIN ManagerProfileEntity m ON m.userId = u.id";
+
     UserEntity findByEmail(String email);
 
-    boolean existsByEmail(String email);
+    /**
+     * Reads only the version of a user, for answering conditional requests without loading the entity.
+     *
+     * @param id the user ID.
+     * @return the current version, or empty if the user does not exist.
+     */
+    @Query("SELECT u.version FROM UserEntity u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Reads a user together with its role profiles in a single query.
+     *
+     * @param id the user ID.
+     * @return the user and its profiles, or empty if the user does not exist.
+     */
+    @Query(WITH_PROFILES + " WHERE u.id = :id")
+    Optional<UserWithProfiles> findWithProfilesById(@Param("id") UUID id);
 
     /**
-     * Finds users by part of their email, first name, or last name.
+     * Reads several users together with their role profiles in a single query, in no particular order.
+     *
+     * @param ids the user IDs.
+     * @return the users that exist, each with its profiles.
+     */
+    @Query(WITH_PROFILES + " WHERE u.id IN :ids")
+    List<UserWithProfiles> findWithProfilesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Loads the users with the given IDs in one statement. The IDs are bound as a single array
+     * parameter, so the statement text, and its cached plan, is the same for any number of IDs.
+     *
+     * @param ids the user IDs.
+     * @return the users that exist, in no particular order.
+     */
+    @Query(value = "SELECT * FROM users WHERE id = ANY(:ids) AND " + UserEntity.NOT_DELETED, nativeQuery = true)
+    List<UserEntity> findAllByIdArray(@Param("ids") UUID[] ids);
+
+    /**
+     * Soft deletes a user: the row stays in place, invisible to every read, until the purge job removes it.
+     *
+     * @param id  the user ID.
+     * @param now the deletion time, recorded as last_update.
+     * @return 1 if the user was deleted, 0 if it does not exist or was already deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.softDelete = true, u.lastUpdate = :now, u.version = u.version + 1 "
+            + "WHERE u.id = :id AND u.softDelete = false")
+    int softDeleteById(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Soft deletes several users in one statement.
+     *
+     * @param ids the user IDs.
+     * @param now the deletion time, recorded as last_update.
+     * @return the number of users deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.softDelete = true, u.lastUpdate = :now, u.version = u.version + 1 "
+            + "WHERE u.id IN :ids AND u.softDelete = false")
+    int softDeleteAllByIdIn(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Returns which of the given emails are already taken, in a single query.
+     *
+     * @param emails the emails to check.
+     * @return the subset of emails that already exist.
+     */
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Returns which of the given IDs exist, in a single query.
+     *
+     * @param ids the user IDs to check.
+     * @return the subset of IDs that exist.
+     */
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Finds users whose email, first name or last name contains the search term, most relevant first.
+     * The LIKE predicate runs against the same expression as idx_users_search_trgm, so PostgreSQL
+     * answers it with a trigram bitmap index scan instead of a sequential scan of users.
      * This method supports pagination.
      *
-     * @param email     the email to search for.
-     * @param firstName the first name to search for.
-     * @param lastName  the last name to search for.
-     * @param pageable  the pagination information.
+     * @param term     the lower-cased search term, used for relevance ranking.
+     * @param pattern  the lower-cased, LIKE-escaped term wrapped in '%' wildcards.
+     * @param pageable the pagination information.
      * @return a page of User entities that match the search criteria.
      */
-    Page<UserEntity> findByEmailContainingIgnoreCaseOrFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(String email, String firstName, String lastName, Pageable pageable);
+    @Query(value = "SELECT * FROM users WHERE " + SEARCH_PREDICATE + " "
+            + "ORDER BY word_similarity(:term, " + SEARCH_DOCUMENT + ") DESC, similarity(:term, " + SEARCH_DOCUMENT + ") DESC, id",
+            countQuery = "SELECT count(*) FROM users WHERE " + SEARCH_PREDICATE,
+            nativeQuery = true)
+    Page<UserEntity> searchByRelevance(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Same as {@link #searchByRelevance(String, String, Pageable)} but returns a slice, so no count query is issued.
+     */
+    @Query(value = "SELECT * FROM users WHERE " + SEARCH_PREDICATE + " "
+            + "ORDER BY word_similarity(:term, " + SEARCH_DOCUMENT + ") DESC, similarity(:term, " + SEARCH_DOCUMENT + ") DESC, id",
+            nativeQuery = true)
+    Slice<UserEntity> searchSliceByRelevance(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Counts the users matching a search pattern exactly.
+     *
+     * @param pattern the lower-cased, LIKE-escaped term wrapped in '%' wildcards.
+     * @return the number of matching users.
+     */
+    @Query(value = "SELECT count(*) FROM users WHERE " + SEARCH_PREDICATE, nativeQuery = true)
+    long countByRelevance(@Param("pattern") String pattern);
+
+    /**
+     * Returns a slice of users without issuing a count query.
+     *
+     * @param pageable the pagination information.
+     * @return a slice of User entities.
+     */
+    Slice<UserEntity> findAllBy(Pageable pageable);
+
+    /**
+     * Returns the first slice of users in (creation_date, id) order, without a count query.
+     *
+     * @param pageable the slice size; the offset is always zero.
+     * @return a slice of User entities.
+     */
+    @Query(value = "SELECT * FROM users WHERE " + UserEntity.NOT_DELETED + " ORDER BY creation_date, id", nativeQuery = true)
+    Slice<UserEntity> findFirstKeysetSlice(Pageable pageable);
+
+    /**
+     * Returns the slice of users positioned strictly after the given keyset cursor.
+     * The row-value comparison lets PostgreSQL seek directly on idx_users_creation_date_id,
+     * so the cost does not depend on how deep the client has paged.
+     *
+     * @param creationDate the creation date of the last user already returned.
+     * @param id           the ID of the last user already returned.
+     * @param pageable     the slice size; the offset is always zero.
+     * @return a slice of User entities.
+     */
+    @Query(value = "SELECT * FROM users WHERE " + UserEntity.NOT_DELETED + " AND (creation_date, id) > (:creationDate, :id) ORDER BY creation_date, id", nativeQuery = true)
+    Slice<UserEntity> findKeysetSliceAfter(@Param("creationDate") LocalDateTime creationDate, @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Returns the first slice of the change feed: every user, including soft-deleted ones, in (change_xid, id) order.
+     * Only rows written by transactions older than the oldest one still running are returned, so no
+     * transaction can commit below a position the feed has already handed out.
+     *
+     * @param pageable the slice size; the offset is always zero.
+     * @return a slice of User entities, live and soft-deleted.
+     */
+    @Query(value = "SELECT * FROM users WHERE " + SETTLED_CHANGE + " ORDER BY change_xid, id", nativeQuery = true)
+    Slice<UserEntity> findFirstChanges(Pageable pageable);
+
+    /**
+     * Returns the users changed strictly after the given change feed position, including soft-deleted ones.
+     * Seeks directly on idx_users_change_xid_id, so the cost is proportional to the number of changes.
+     *
+     * @param changeXid the writing transaction of the last change already returned.
+     * @param id        the ID of the last change already returned.
+     * @param pageable  the slice size; the offset is always zero.
+     * @return a slice of User entities, live and soft-deleted.
+     */
+    @Query(value = "SELECT * FROM users WHERE (change_xid, id) > (:changeXid, :id) AND " + SETTLED_CHANGE
+            + " ORDER BY change_xid, id", nativeQuery = true)
+    Slice<UserEntity> findChangesAfter(@Param("changeXid") long changeXid, @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Streams the fields needed by the typeahead index without loading full entities.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @return a stream of user suggestions.
+     */
+    @Query("SELECT new com.microservices.userservice.api.models.dto.UserSuggestionDTO(u.id, u.email, u.firstName, u.lastName) FROM UserEntity u")
+    Stream<UserSuggestionDTO> streamAllSuggestions();
+
+    /**
+     * Streams all users through a server-side cursor for bulk export.
+     * Must be consumed inside a read-only transaction and closed afterwards.
+     *
+     * @return a stream of read-only User entities in (creation_date, id) order.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM UserEntity u ORDER BY u.creationDate, u.id")
+    Stream<UserEntity> streamAllForExport();
 
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.microservices.userservice.api.repositories.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only R2DBC view of the administrator_profiles table.
+ */
+@Table("administrator_profiles")
+public record AdministratorProfileReadModel(
+        @Id @Column("user_id") UUID userId,
+        String department,
+        @Column("permissions_level") String permissionsLevel,
+        @Column("last_update") LocalDateTime lastUpdate) {
+}
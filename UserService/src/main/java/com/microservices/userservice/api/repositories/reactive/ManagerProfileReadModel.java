@@ -0,0 +1,19 @@
+package com.microservices.userservice.api.repositories.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only R2DBC view of the manager_profiles table.
+ */
+@Table("manager_profiles")
+public record ManagerProfileReadModel(
+        @Id @Column("user_id") UUID userId,
+        @Column("team_size") Integer teamSize,
+        @Column("area_of_responsibility") String areaOfResponsibility,
+        @Column("last_update") LocalDateTime lastUpdate) {
+}
@@ -0,0 +1,21 @@
+package com.microservices.userservice.api.repositories.reactive;
+
+import com.microservices.userservice.api.repositories.UserRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveManagerProfileRepository extends R2dbcRepository<ManagerProfileReadModel, UUID> {
+
+    /**
+     * Reads the manager profile of a user that is not soft deleted.
+     *
+     * @param userId the ID of the user the profile belongs to.
+     * @return the profile, or empty if it does not exist or its user was deleted.
+     */
+    @Query("SELECT p.* FROM manager_profiles p WHERE p.user_id = :userId AND " + UserRepository.PROFILE_OF_LIVE_USER_SQL)
+    Mono<ManagerProfileReadModel> findLiveById(@Param("userId") UUID userId);
+}
@@ -0,0 +1,66 @@
+package com.microservices.userservice.api.repositories.reactive;
+
+import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.repositories.UserRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads of users over R2DBC. The queries mirror the ones in {@link UserRepository},
+ * so they are served by the same indexes and see the same live users.
+ */
+public interface ReactiveUserRepository extends R2dbcRepository<UserReadModel, UUID> {
+
+    /**
+     * Reads a live user.
+     *
+     * @param id the user ID.
+     * @return the user, or empty if it does not exist or was deleted.
+     */
+    @Query("SELECT * FROM users WHERE id = :id AND " + UserEntity.NOT_DELETED)
+    Mono<UserReadModel> findLiveById(@Param("id") UUID id);
+
+    /**
+     * Returns the first users in (creation_date, id) order.
+     *
+     * @param limit the maximum number of users.
+     * @return the users, in keyset order.
+     */
+    @Query("SELECT * FROM users WHERE " + UserEntity.NOT_DELETED + " ORDER BY creation_date, id LIMIT :limit")
+    Flux<UserReadModel> findFirstKeyset(@Param("limit") int limit);
+
+    /**
+     * Returns the users positioned strictly after the given keyset cursor, seeking on idx_users_creation_date_id.
+     *
+     * @param creationDate the creation date of the last user already returned.
+     * @param id           the ID of the last user already returned.
+     * @param limit        the maximum number of users.
+     * @return the users, in keyset order.
+     */
+    @Query("SELECT * FROM users WHERE " + UserEntity.NOT_DELETED + " AND (creation_date, id) > (:creationDate, :id) "
+            + "ORDER BY creation_date, id LIMIT :limit")
+    Flux<UserReadModel> findKeysetAfter(@Param("creationDate") LocalDateTime creationDate, @Param("id") UUID id,
+                                        @Param("limit") int limit);
+
+    /**
+     * Finds users whose email, first name or last name contains the search term, most relevant first.
+     * Same predicate and ranking as {@link UserRepository#searchSliceByRelevance}.
+     *
+     * @param term    the lower-cased search term, used for relevance ranking.
+     * @param pattern the lower-cased, LIKE-escaped term wrapped in '%' wildcards.
+     * @param limit   the maximum number of users.
+     * @param offset  the number of users to skip.
+     * @return the matching users, most relevant first.
+     */
+    @Query("SELECT * FROM users WHERE " + UserRepository.SEARCH_PREDICATE + " "
+            + "ORDER BY word_similarity(:term, " + UserRepository.SEARCH_DOCUMENT + ") DESC, "
+            + "similarity(:term, " + UserRepository.SEARCH_DOCUMENT + ") DESC, id LIMIT :limit OFFSET :offset")
+    Flux<UserReadModel> searchByRelevance(@Param("term") String term, @Param("pattern") String pattern,
+                                          @Param("limit") int limit, @Param("offset") long offset);
+}
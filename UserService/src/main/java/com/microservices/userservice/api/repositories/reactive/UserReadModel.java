@@ -0,0 +1,25 @@
+package com.microservices.userservice.api.repositories.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only R2DBC view of the users table. Writes keep going through {@code UserEntity} and JPA.
+ */
+@Table("users")
+public record UserReadModel(
+        @Id UUID id,
+        @Column("first_name") String firstName,
+        @Column("last_name") String lastName,
+        String email,
+        String password,
+        @Column("creation_date") LocalDateTime creationDate,
+        @Column("last_update") LocalDateTime lastUpdate,
+        @Column("soft_delete") boolean softDelete,
+        String role,
+        long version) {
+}
@@ -1,15 +1,21 @@
 package com.microservices.userservice.api.services;
 
 import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.AdministratorProfileFilter;
+import com.microservices.userservice.api.models.dto.SliceDTO;
+import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface AdministratorProfileService {
-    List<AdministratorProfileDTO> getAllAdminProfiles();
+    SliceDTO<AdministratorProfileDTO> getAdminProfiles(AdministratorProfileFilter filter, Pageable pageable);
 
     AdministratorProfileDTO getAdminProfileByUserId(UUID userId);
 
+    Optional<LocalDateTime> getAdminProfileLastUpdate(UUID userId);
+
     AdministratorProfileDTO createAdminProfile(AdministratorProfileDTO adminProfileDTO);
 
     AdministratorProfileDTO updateAdminProfile(UUID userId, AdministratorProfileDTO adminProfileDTO);
@@ -0,0 +1,11 @@
+package com.microservices.userservice.api.services;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AuditService {
+
+    void record(String action, String resourceType, UUID resourceId);
+
+    void recordAll(String action, String resourceType, List<UUID> resourceIds);
+}
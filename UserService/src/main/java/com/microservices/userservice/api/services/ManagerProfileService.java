@@ -1,15 +1,21 @@
 package com.microservices.userservice.api.services;
 
 import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileFilter;
+import com.microservices.userservice.api.models.dto.SliceDTO;
+import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ManagerProfileService {
-    List<ManagerProfileDTO> getAllManagerProfiles();
+    SliceDTO<ManagerProfileDTO> getManagerProfiles(ManagerProfileFilter filter, Pageable pageable);
 
     ManagerProfileDTO getManagerProfileByUserId(UUID userId);
 
+    Optional<LocalDateTime> getManagerProfileLastUpdate(UUID userId);
+
     ManagerProfileDTO createManagerProfile(ManagerProfileDTO managerProfileDTO);
 
     ManagerProfileDTO updateManagerProfile(UUID userId, ManagerProfileDTO managerProfileDTO);
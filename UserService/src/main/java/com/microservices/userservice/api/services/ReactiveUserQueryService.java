@@ -0,0 +1,24 @@
+package com.microservices.userservice.api.services;
+
+import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.util.Expansion;
+import com.microservices.userservice.api.util.UserCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveUserQueryService {
+
+    Mono<UserDTO> getUserById(UUID id, Expansion expansion);
+
+    Flux<UserDTO> getUsersAfter(UserCursor cursor, int size);
+
+    Flux<UserDTO> searchUsers(String search, int page, int size);
+
+    Mono<AdministratorProfileDTO> getAdministratorProfile(UUID userId);
+
+    Mono<ManagerProfileDTO> getManagerProfile(UUID userId);
+}
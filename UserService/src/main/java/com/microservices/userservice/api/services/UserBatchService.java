@@ -0,0 +1,19 @@
+package com.microservices.userservice.api.services;
+
+import com.microservices.userservice.api.models.dto.UserBatchResultDTO;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserLookupResultDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface UserBatchService {
+
+    List<UserBatchResultDTO> createUsers(List<UserDTO> userDTOs);
+
+    List<UserBatchResultDTO> updateUsers(List<UserDTO> userDTOs);
+
+    List<UserBatchResultDTO> deleteUsers(List<UUID> ids);
+
+    UserLookupResultDTO lookupUsers(List<UUID> ids);
+}
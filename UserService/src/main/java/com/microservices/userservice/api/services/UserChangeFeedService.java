@@ -0,0 +1,11 @@
+package com.microservices.userservice.api.services;
+
+import com.microservices.userservice.api.models.dto.UserChangesDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface UserChangeFeedService {
+
+    UserChangesDTO getChanges(String since, int size);
+
+    SseEmitter subscribe();
+}
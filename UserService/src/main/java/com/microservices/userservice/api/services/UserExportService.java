@@ -0,0 +1,11 @@
+package com.microservices.userservice.api.services;
+
+import com.microservices.userservice.api.util.DataFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface UserExportService {
+
+    void exportUsers(DataFormat format, OutputStream outputStream) throws IOException;
+}
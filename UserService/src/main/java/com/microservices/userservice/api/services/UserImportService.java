@@ -0,0 +1,15 @@
+package com.microservices.userservice.api.services;
+
+import com.microservices.userservice.api.models.dto.UserImportJobDTO;
+import com.microservices.userservice.api.util.DataFormat;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+
+public interface UserImportService {
+
+    UserImportJobDTO submitImport(DataFormat format, MultipartFile file) throws IOException;
+
+    UserImportJobDTO getImportJob(UUID jobId);
+}
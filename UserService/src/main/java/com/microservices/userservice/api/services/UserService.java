@@ -1,10 +1,17 @@
 package com.microservices.userservice.api.services;
 
+import com.microservices.userservice.api.models.dto.SliceDTO;
 import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserPatchDTO;
 import com.microservices.userservice.api.responses.ApiResponse;
+import com.microservices.userservice.api.util.TotalMode;
+import com.microservices.userservice.api.util.UserCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 
@@ -13,11 +20,23 @@ public interface UserService {
 
     Page<UserDTO> getAllUsers(Pageable pageable, String search);
 
+    Slice<UserDTO> getUsersAfter(UserCursor cursor, int size);
+
+    SliceDTO<UserDTO> getUserSlice(Pageable pageable, String search, TotalMode totalMode);
+
     UserDTO getUserById(UUID id);
 
+    UserDTO getUserWithProfiles(UUID id);
+
+    List<UserDTO> withProfiles(List<UserDTO> users);
+
+    Optional<Long> getUserVersion(UUID id);
+
     UserDTO createUser(UserDTO userDTO);
 
     UserDTO updateUser(UUID id, UserDTO userDTO);
 
+    UserDTO patchUser(UUID id, UserPatchDTO patchDTO, Long expectedVersion);
+
     ApiResponse deleteUser(UUID id);
 }
\ No newline at end of file
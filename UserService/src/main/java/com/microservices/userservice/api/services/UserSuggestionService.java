@@ -0,0 +1,16 @@
+package com.microservices.userservice.api.services;
+
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserSuggestionDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface UserSuggestionService {
+
+    List<UserSuggestionDTO> suggest(String prefix, int limit);
+
+    void index(UserDTO userDTO);
+
+    void remove(UUID id);
+}
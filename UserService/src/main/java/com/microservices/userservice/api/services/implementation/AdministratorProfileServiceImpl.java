@@ -1,16 +1,25 @@
 package com.microservices.userservice.api.services.implementation;
 
+import com.microservices.userservice.api.events.AuditEvent;
 import com.microservices.userservice.api.exceptions.ResourceNotFoundException;
 import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.AdministratorProfileFilter;
+import com.microservices.userservice.api.models.dto.SliceDTO;
 import com.microservices.userservice.api.models.entities.AdministratorProfileEntity;
 import com.microservices.userservice.api.repositories.AdministratorProfileRepository;
 import com.microservices.userservice.api.services.AdministratorProfileService;
+import com.microservices.userservice.api.services.AuditService;
+import com.microservices.userservice.api.util.ProfileMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -22,23 +31,35 @@ public class AdministratorProfileServiceImpl implements AdministratorProfileServ
 
     private final AdministratorProfileRepository adminProfileRepository;
     private final MessageSource messageSource;
+    private final AuditService auditService;
 
-    public AdministratorProfileServiceImpl(AdministratorProfileRepository adminProfileRepository, MessageSource messageSource) {
+    public AdministratorProfileServiceImpl(AdministratorProfileRepository adminProfileRepository, MessageSource messageSource,
+                                           AuditService auditService) {
         this.adminProfileRepository = adminProfileRepository;
         this.messageSource = messageSource;
+        this.auditService = auditService;
     }
 
+    /**
+     * Gets one slice of profiles matching the filters, in the requested order.
+     * Only the requested rows plus one are loaded, so memory use does not grow with the table.
+     *
+     * @param filter   the filters to apply.
+     * @param pageable the pagination and sorting information.
+     * @return a slice of profiles and whether more follow.
+     */
     @Override
-    public List<AdministratorProfileDTO> getAllAdminProfiles() {
-        List<AdministratorProfileEntity> adminProfiles = adminProfileRepository.findAll();
-        return adminProfiles.stream()
-                .map(this::convertToDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public SliceDTO<AdministratorProfileDTO> getAdminProfiles(AdministratorProfileFilter filter, Pageable pageable) {
+        Slice<AdministratorProfileEntity> profiles = adminProfileRepository.findSlice(filter, pageable);
+        return new SliceDTO<>(profiles.map(this::convertToDTO).getContent(), pageable.getPageNumber(), pageable.getPageSize(),
+                profiles.hasNext(), null, null);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AdministratorProfileDTO getAdminProfileByUserId(UUID userId) {
-        AdministratorProfileEntity adminProfile = adminProfileRepository.findById(userId)
+        AdministratorProfileEntity adminProfile = adminProfileRepository.findLiveById(userId)
                 .orElseThrow(() -> {
                     String message = messageSource.getMessage("resource.not.found.admin.profile", new Object[]{userId}, LocaleContextHolder.getLocale());
                     log.warn(message);
@@ -47,16 +68,30 @@ public class AdministratorProfileServiceImpl implements AdministratorProfileServ
         return convertToDTO(adminProfile);
     }
 
+    /**
+     * Reads the last modification time of a profile without loading it.
+     *
+     * @param userId the ID of the user the profile belongs to.
+     * @return the last modification time, or empty if the profile does not exist.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getAdminProfileLastUpdate(UUID userId) {
+        return adminProfileRepository.findLastUpdateByUserId(userId);
+    }
+
     @Override
     public AdministratorProfileDTO createAdminProfile(AdministratorProfileDTO adminProfileDTO) {
         AdministratorProfileEntity adminProfile = convertToEntity(adminProfileDTO);
         AdministratorProfileEntity savedAdminProfile = adminProfileRepository.save(adminProfile);
+        auditService.record(AuditEvent.CREATE, AuditEvent.ADMINISTRATOR_PROFILE, savedAdminProfile.getUserId());
         return convertToDTO(savedAdminProfile);
     }
 
     @Override
+    @Transactional
     public AdministratorProfileDTO updateAdminProfile(UUID userId, AdministratorProfileDTO adminProfileDTO) {
-        AdministratorProfileEntity existingAdminProfile = adminProfileRepository.findById(userId)
+        AdministratorProfileEntity existingAdminProfile = adminProfileRepository.findLiveById(userId)
                 .orElseThrow(() -> {
                     String message = messageSource.getMessage(RESOURCE_NOT_FOUND_KEY, new Object[]{userId}, LocaleContextHolder.getLocale());
                     log.warn(message);
@@ -65,27 +100,26 @@ public class AdministratorProfileServiceImpl implements AdministratorProfileServ
         existingAdminProfile.setDepartment(adminProfileDTO.getDepartment());
         existingAdminProfile.setPermissionsLevel(adminProfileDTO.getPermissionsLevel());
         AdministratorProfileEntity updatedAdminProfile = adminProfileRepository.save(existingAdminProfile);
+        auditService.record(AuditEvent.UPDATE, AuditEvent.ADMINISTRATOR_PROFILE, userId);
         return convertToDTO(updatedAdminProfile);
     }
 
     @Override
+    @Transactional
     public void deleteAdminProfile(UUID userId) {
-        AdministratorProfileEntity adminProfile = adminProfileRepository.findById(userId)
+        AdministratorProfileEntity adminProfile = adminProfileRepository.findLiveById(userId)
                 .orElseThrow(() -> {
                     String message = messageSource.getMessage("resource.not.found.admin.profile", new Object[]{userId}, LocaleContextHolder.getLocale());
                     log.warn(message);
                     return new ResourceNotFoundException(message, userId);
                 });
         adminProfileRepository.delete(adminProfile);
+        auditService.record(AuditEvent.DELETE, AuditEvent.ADMINISTRATOR_PROFILE, userId);
     }
 
     // Helper methods to convert between entities and DTOs
     private AdministratorProfileDTO convertToDTO(AdministratorProfileEntity adminProfile) {
-        AdministratorProfileDTO adminProfileDTO = new AdministratorProfileDTO();
-        adminProfileDTO.setUserId(adminProfile.getUserId());
-        adminProfileDTO.setDepartment(adminProfile.getDepartment());
-        adminProfileDTO.setPermissionsLevel(adminProfile.getPermissionsLevel());
-        return adminProfileDTO;
+        return ProfileMapper.toDTO(adminProfile);
     }
 
     private AdministratorProfileEntity convertToEntity(AdministratorProfileDTO adminProfileDTO) {
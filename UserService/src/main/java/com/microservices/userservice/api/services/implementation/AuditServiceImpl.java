@@ -0,0 +1,247 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.events.AuditEvent;
+import com.microservices.userservice.api.services.AuditService;
+import com.microservices.userservice.api.util.RateLimitedLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous audit trail of user and profile mutations.
+ * <p>
+ * The request path only captures the actor and offers the event to a bounded in-memory queue,
+ * after the surrounding transaction commits if there is one, so rolled-back changes are never
+ * audited. A single background writer drains the queue into {@code audit_log} with batched inserts
+ * that the driver rewrites into multi-row statements ({@code reWriteBatchedInserts}); under load
+ * batches fill up to {@code batch-size}, when idle each event is written almost immediately.
+ * <p>
+ * When the queue is full the {@link OverflowPolicy} decides between dropping the event (no added
+ * latency, the default) and making the caller wait up to {@code block-timeout-ms} before dropping it.
+ * Queued events are flushed on graceful shutdown but lost if the process dies. Publishes
+ * {@code audit.queue.depth}, {@code audit.flush} and {@code audit.events} by result.
+ */
+@Service
+@Slf4j
+public class AuditServiceImpl implements AuditService, SmartLifecycle {
+
+    /**
+     * What to do with an event when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the event immediately and count it.
+         */
+        DROP,
+        /**
+         * Wait up to the block timeout for space, then drop the event.
+         */
+        BLOCK
+    }
+
+    private static final String INSERT_SQL = "INSERT INTO audit_log (occurred_at, actor, action, resource_type, resource_id) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditEvent> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+    private final RateLimitedLogger overflowLog = new RateLimitedLogger(log, 1, Duration.ofSeconds(10));
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditServiceImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                            @Value("${app.audit.queue-capacity}") int queueCapacity,
+                            @Value("${app.audit.overflow-policy}") OverflowPolicy overflowPolicy,
+                            @Value("${app.audit.block-timeout-ms}") long blockTimeoutMs,
+                            @Value("${app.audit.batch-size}") int batchSize,
+                            @Value("${app.audit.flush-interval-ms}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.events").tag("result", "written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events").tag("result", "dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.events").tag("result", "failed").register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+                .description("Time taken to write one batch of audit events")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a mutation made by the current principal. Never blocks under the default overflow policy.
+     *
+     * @param action       CREATE, UPDATE or DELETE.
+     * @param resourceType USER, ADMINISTRATOR_PROFILE or MANAGER_PROFILE.
+     * @param resourceId   the ID of the user the mutated resource belongs to.
+     */
+    @Override
+    public void record(String action, String resourceType, UUID resourceId) {
+        AuditEvent event = new AuditEvent(LocalDateTime.now(), currentActor(), action, resourceType, resourceId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    /**
+     * Records the same mutation of many resources by the current principal, such as the users created by an import.
+     * The events are written straight to {@code audit_log} in batches of {@code batch-size} rather than through the
+     * queue, which a large import would overflow, so the caller waits for the writes: meant for background jobs.
+     *
+     * @param action       CREATE, UPDATE or DELETE.
+     * @param resourceType USER, ADMINISTRATOR_PROFILE or MANAGER_PROFILE.
+     * @param resourceIds  the IDs of the users the mutated resources belong to.
+     */
+    @Override
+    public void recordAll(String action, String resourceType, List<UUID> resourceIds) {
+        LocalDateTime occurredAt = LocalDateTime.now();
+        String actor = currentActor();
+        List<AuditEvent> events = resourceIds.stream()
+                .map(resourceId -> new AuditEvent(occurredAt, actor, action, resourceType, resourceId))
+                .toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(events);
+                }
+            });
+        } else {
+            write(events);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                // The writer drains what is left before exiting
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void enqueue(AuditEvent event) {
+        boolean accepted;
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(event);
+        }
+        if (!accepted) {
+            droppedCounter.increment();
+            overflowLog.warn("Audit queue full, dropped {} of {}", event.action(), event.resourceId());
+        }
+    }
+
+    private void write(List<AuditEvent> events) {
+        for (int from = 0; from < events.size(); from += batchSize) {
+            flush(events.subList(from, Math.min(from + batchSize, events.size())));
+        }
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, event) -> {
+                statement.setTimestamp(1, Timestamp.valueOf(event.occurredAt()));
+                statement.setString(2, event.actor());
+                statement.setString(3, event.action());
+                statement.setString(4, event.resourceType());
+                statement.setObject(5, event.resourceId());
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("Could not write {} audit events: {}", batch.size(), e.getMessage(), e);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
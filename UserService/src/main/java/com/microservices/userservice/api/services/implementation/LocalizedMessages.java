@@ -0,0 +1,63 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+/**
+ * Resolves messages from messages.properties for the current locale.
+ * <p>
+ * Messages are resolved once per locale and cached: plain messages as text, parameterized ones as a parsed
+ * {@link MessageFormat}, so only the arguments are formatted per call. The caches are bounded because the
+ * locale comes from the client's Accept-Language header.
+ */
+@Component
+public class LocalizedMessages {
+
+    private static final int MAX_CACHED_MESSAGES = 1000;
+
+    private final MessageSource messageSource;
+    private final Cache<MessageKey, String> resolvedMessages = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_MESSAGES)
+            .build();
+    private final Cache<MessageKey, MessageFormat> messageFormats = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_MESSAGES)
+            .build();
+
+    public LocalizedMessages(MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    /**
+     * @param code the message key.
+     * @return the message for the current locale, from the cache after the first lookup.
+     */
+    public String get(String code) {
+        Locale locale = LocaleContextHolder.getLocale();
+        return resolvedMessages.get(new MessageKey(code, locale), key -> messageSource.getMessage(code, null, locale));
+    }
+
+    /**
+     * @param code the message key.
+     * @param args the message arguments.
+     * @return the formatted message for the current locale, formatted with a cached pattern after the first lookup.
+     */
+    public String format(String code, Object... args) {
+        Locale locale = LocaleContextHolder.getLocale();
+        // Without arguments the message source returns the pattern as written, quotes and placeholders included
+        MessageFormat messageFormat = messageFormats.get(new MessageKey(code, locale),
+                key -> new MessageFormat(messageSource.getMessage(code, null, locale), locale));
+        // MessageFormat is not thread-safe; MessageSource implementations synchronize on it the same way
+        synchronized (messageFormat) {
+            return messageFormat.format(args);
+        }
+    }
+
+    private record MessageKey(String code, Locale locale) {
+    }
+}
@@ -1,16 +1,25 @@
 package com.microservices.userservice.api.services.implementation;
 
+import com.microservices.userservice.api.events.AuditEvent;
 import com.microservices.userservice.api.exceptions.ResourceNotFoundException;
 import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileFilter;
+import com.microservices.userservice.api.models.dto.SliceDTO;
 import com.microservices.userservice.api.models.entities.ManagerProfileEntity;
 import com.microservices.userservice.api.repositories.ManagerProfileRepository;
+import com.microservices.userservice.api.services.AuditService;
 import com.microservices.userservice.api.services.ManagerProfileService;
+import com.microservices.userservice.api.util.ProfileMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -21,21 +30,35 @@ public class ManagerProfileServiceImpl implements ManagerProfileService {
 
     private final ManagerProfileRepository managerProfileRepository;
     private final MessageSource messageSource;
+    private final AuditService auditService;
 
-    public ManagerProfileServiceImpl(ManagerProfileRepository managerProfileRepository, MessageSource messageSource) {
+    public ManagerProfileServiceImpl(ManagerProfileRepository managerProfileRepository, MessageSource messageSource,
+                                     AuditService auditService) {
         this.managerProfileRepository = managerProfileRepository;
         this.messageSource = messageSource;
+        this.auditService = auditService;
     }
 
+    /**
+     * Gets one slice of profiles matching the filters, in the requested order.
+     * Only the requested rows plus one are loaded, so memory use does not grow with the table.
+     *
+     * @param filter   the filters to apply.
+     * @param pageable the pagination and sorting information.
+     * @return a slice of profiles and whether more follow.
+     */
     @Override
-    public List<ManagerProfileDTO> getAllManagerProfiles() {
-        List<ManagerProfileEntity> managerProfileEntities = managerProfileRepository.findAll();
-        return managerProfileEntities.stream().map(this::convertToDTO).toList();
+    @Transactional(readOnly = true)
+    public SliceDTO<ManagerProfileDTO> getManagerProfiles(ManagerProfileFilter filter, Pageable pageable) {
+        Slice<ManagerProfileEntity> profiles = managerProfileRepository.findSlice(filter, pageable);
+        return new SliceDTO<>(profiles.map(this::convertToDTO).getContent(), pageable.getPageNumber(), pageable.getPageSize(),
+                profiles.hasNext(), null, null);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ManagerProfileDTO getManagerProfileByUserId(UUID userId) {
-        ManagerProfileEntity managerProfileEntity = managerProfileRepository.findById(userId).orElseThrow(() -> {
+        ManagerProfileEntity managerProfileEntity = managerProfileRepository.findLiveById(userId).orElseThrow(() -> {
             String message = messageSource.getMessage("manager.profile.not.found", new Object[]{userId}, LocaleContextHolder.getLocale());
             log.warn(message);
             return new ResourceNotFoundException(message, userId);
@@ -43,16 +66,30 @@ public class ManagerProfileServiceImpl implements ManagerProfileService {
         return convertToDTO(managerProfileEntity);
     }
 
+    /**
+     * Reads the last modification time of a profile without loading it.
+     *
+     * @param userId the ID of the user the profile belongs to.
+     * @return the last modification time, or empty if the profile does not exist.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getManagerProfileLastUpdate(UUID userId) {
+        return managerProfileRepository.findLastUpdateByUserId(userId);
+    }
+
     @Override
     public ManagerProfileDTO createManagerProfile(ManagerProfileDTO managerProfileDTO) {
         ManagerProfileEntity managerProfileEntity = convertToEntity(managerProfileDTO);
         ManagerProfileEntity savedManagerProfileEntity = managerProfileRepository.save(managerProfileEntity);
+        auditService.record(AuditEvent.CREATE, AuditEvent.MANAGER_PROFILE, savedManagerProfileEntity.getUserId());
         return convertToDTO(savedManagerProfileEntity);
     }
 
     @Override
+    @Transactional
     public ManagerProfileDTO updateManagerProfile(UUID userId, ManagerProfileDTO managerProfileDTO) {
-        ManagerProfileEntity existingManagerProfileEntity = managerProfileRepository.findById(userId).orElseThrow(() -> {
+        ManagerProfileEntity existingManagerProfileEntity = managerProfileRepository.findLiveById(userId).orElseThrow(() -> {
             String message = messageSource.getMessage("manager.profile.not.found", new Object[]{userId}, LocaleContextHolder.getLocale());
             log.warn(message);
             return new ResourceNotFoundException(message, userId);
@@ -60,26 +97,25 @@ public class ManagerProfileServiceImpl implements ManagerProfileService {
         existingManagerProfileEntity.setTeamSize(managerProfileDTO.getTeamSize());
         existingManagerProfileEntity.setAreaOfResponsibility(managerProfileDTO.getAreaOfResponsibility());
         ManagerProfileEntity updatedManagerProfileEntity = managerProfileRepository.save(existingManagerProfileEntity);
+        auditService.record(AuditEvent.UPDATE, AuditEvent.MANAGER_PROFILE, userId);
         return convertToDTO(updatedManagerProfileEntity);
     }
 
     @Override
+    @Transactional
     public void deleteManagerProfile(UUID userId) {
-        ManagerProfileEntity managerProfileEntity = managerProfileRepository.findById(userId).orElseThrow(() -> {
+        ManagerProfileEntity managerProfileEntity = managerProfileRepository.findLiveById(userId).orElseThrow(() -> {
             String message = messageSource.getMessage("manager.profile.not.found", new Object[]{userId}, LocaleContextHolder.getLocale());
             log.warn(message);
             return new ResourceNotFoundException(message, userId);
         });
         managerProfileRepository.delete(managerProfileEntity);
+        auditService.record(AuditEvent.DELETE, AuditEvent.MANAGER_PROFILE, userId);
     }
 
     // Helper methods to convert between entities and DTOs
     private ManagerProfileDTO convertToDTO(ManagerProfileEntity managerProfileEntity) {
-        ManagerProfileDTO managerProfileDTO = new ManagerProfileDTO();
-        managerProfileDTO.setUserId(managerProfileEntity.getUserId());
-        managerProfileDTO.setTeamSize(managerProfileEntity.getTeamSize());
-        managerProfileDTO.setAreaOfResponsibility(managerProfileEntity.getAreaOfResponsibility());
-        return managerProfileDTO;
+        return ProfileMapper.toDTO(managerProfileEntity);
     }
 
     private ManagerProfileEntity convertToEntity(ManagerProfileDTO managerProfileDTO) {
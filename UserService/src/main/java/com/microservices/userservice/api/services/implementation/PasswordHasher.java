@@ -0,0 +1,65 @@
+package com.microservices.userservice.api.services.implementation;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Hashes the passwords written by the bulk paths (batch endpoints and imports) with the BCrypt
+ * encoder the AuthenticationService verifies against, so both store the same kind of value.
+ * <p>
+ * BCrypt is CPU-bound, so hashing stays on a bounded platform pool even when virtual threads are enabled.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService hashingExecutor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, @Value("${app.users.password.hash-threads}") int hashThreads) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        this.hashingExecutor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("password-hashing-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    /**
+     * Hashes passwords in parallel.
+     *
+     * @param passwords the raw passwords.
+     * @return the hashes, in the order of the passwords.
+     */
+    public List<String> hashAll(List<String> passwords) {
+        List<Future<String>> hashes = new ArrayList<>(passwords.size());
+        for (String password : passwords) {
+            hashes.add(hashingExecutor.submit(() -> passwordEncoder.encode(password)));
+        }
+        List<String> result = new ArrayList<>(passwords.size());
+        try {
+            for (Future<String> hash : hashes) {
+                result.add(hash.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            hashes.forEach(hash -> hash.cancel(true));
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            hashes.forEach(hash -> hash.cancel(true));
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return result;
+    }
+}
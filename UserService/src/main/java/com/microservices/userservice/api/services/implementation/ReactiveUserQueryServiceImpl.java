@@ -0,0 +1,122 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.exceptions.ResourceNotFoundException;
+import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.repositories.reactive.AdministratorProfileReadModel;
+import com.microservices.userservice.api.repositories.reactive.ManagerProfileReadModel;
+import com.microservices.userservice.api.repositories.reactive.ReactiveAdministratorProfileRepository;
+import com.microservices.userservice.api.repositories.reactive.ReactiveManagerProfileRepository;
+import com.microservices.userservice.api.repositories.reactive.ReactiveUserRepository;
+import com.microservices.userservice.api.repositories.reactive.UserReadModel;
+import com.microservices.userservice.api.services.ReactiveUserQueryService;
+import com.microservices.userservice.api.util.Expansion;
+import com.microservices.userservice.api.util.ProfileMapper;
+import com.microservices.userservice.api.util.UserCursor;
+import com.microservices.userservice.api.util.UserMapper;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of the user and profile reads in {@link UserServiceImpl} and the profile services.
+ * <p>
+ * Every query runs on R2DBC, so a request waiting for the database holds no thread. Not-found errors are
+ * raised without a message: the locale is bound to the request thread, and {@code GlobalExceptionHandler}
+ * resolves the message once the result is dispatched back to it. Writes and the users cache stay on the
+ * blocking path.
+ */
+@Service
+public class ReactiveUserQueryServiceImpl implements ReactiveUserQueryService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveAdministratorProfileRepository administratorProfileRepository;
+    private final ReactiveManagerProfileRepository managerProfileRepository;
+
+    public ReactiveUserQueryServiceImpl(ReactiveUserRepository userRepository,
+                                        ReactiveAdministratorProfileRepository administratorProfileRepository,
+                                        ReactiveManagerProfileRepository managerProfileRepository) {
+        this.userRepository = userRepository;
+        this.administratorProfileRepository = administratorProfileRepository;
+        this.managerProfileRepository = managerProfileRepository;
+    }
+
+    /**
+     * Reads a live user, optionally with its role profiles. The three reads of an expanded user run concurrently.
+     *
+     * @param id        the user ID.
+     * @param expansion whether to embed the role profiles.
+     * @return the user, or a {@link ResourceNotFoundException} error if it does not exist.
+     */
+    @Override
+    public Mono<UserDTO> getUserById(UUID id, Expansion expansion) {
+        Mono<UserDTO> user = userRepository.findLiveById(id)
+                .map(UserMapper::toDTO)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(id)));
+        if (expansion != Expansion.PROFILE) {
+            return user;
+        }
+        Mono<Optional<AdministratorProfileReadModel>> administratorProfile = administratorProfileRepository.findLiveById(id)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        Mono<Optional<ManagerProfileReadModel>> managerProfile = managerProfileRepository.findLiveById(id)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        return Mono.zip(user, administratorProfile, managerProfile).map(tuple -> {
+            UserDTO userDTO = tuple.getT1();
+            tuple.getT2().ifPresent(profile -> userDTO.setAdministratorProfile(ProfileMapper.toDTO(profile)));
+            tuple.getT3().ifPresent(profile -> userDTO.setManagerProfile(ProfileMapper.toDTO(profile)));
+            return userDTO;
+        });
+    }
+
+    /**
+     * Streams the users after a keyset cursor, in (creation_date, id) order.
+     *
+     * @param cursor the position of the last user already returned, or null to start from the beginning.
+     * @param size   the maximum number of users.
+     * @return the users, in keyset order.
+     */
+    @Override
+    public Flux<UserDTO> getUsersAfter(UserCursor cursor, int size) {
+        Flux<UserReadModel> users = cursor == null
+                ? userRepository.findFirstKeyset(size)
+                : userRepository.findKeysetAfter(cursor.creationDate(), cursor.id(), size);
+        return users.map(UserMapper::toDTO);
+    }
+
+    /**
+     * Streams the users matching a search term, most relevant first.
+     *
+     * @param search the search term.
+     * @param page   the zero-based page number.
+     * @param size   the page size.
+     * @return the matching users.
+     */
+    @Override
+    public Flux<UserDTO> searchUsers(String search, int page, int size) {
+        String term = search.toLowerCase(Locale.ROOT);
+        String pattern = "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return userRepository.searchByRelevance(term, pattern, size, (long) page * size)
+                .map(UserMapper::toDTO);
+    }
+
+    @Override
+    public Mono<AdministratorProfileDTO> getAdministratorProfile(UUID userId) {
+        return administratorProfileRepository.findLiveById(userId)
+                .map(ProfileMapper::toDTO)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(userId)));
+    }
+
+    @Override
+    public Mono<ManagerProfileDTO> getManagerProfile(UUID userId) {
+        return managerProfileRepository.findLiveById(userId)
+                .map(ProfileMapper::toDTO)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(userId)));
+    }
+}
@@ -0,0 +1,431 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.config.CacheConfig;
+import com.microservices.userservice.api.config.ReplicaRoutingDataSource;
+import com.microservices.userservice.api.events.AuditEvent;
+import com.microservices.userservice.api.exceptions.BatchSizeExceededException;
+import com.microservices.userservice.api.exceptions.EmptyEmailException;
+import com.microservices.userservice.api.exceptions.EmptyPasswordException;
+import com.microservices.userservice.api.exceptions.InvalidEmailException;
+import com.microservices.userservice.api.exceptions.InvalidParameterException;
+import com.microservices.userservice.api.exceptions.InvalidPasswordException;
+import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.dto.UserBatchResultDTO;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserLookupResultDTO;
+import com.microservices.userservice.api.models.entities.AdministratorProfileEntity;
+import com.microservices.userservice.api.models.entities.ManagerProfileEntity;
+import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.repositories.UserRepository;
+import com.microservices.userservice.api.services.AuditService;
+import com.microservices.userservice.api.services.UserBatchService;
+import com.microservices.userservice.api.services.UserSuggestionService;
+import com.microservices.userservice.api.util.UserMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based create, update and delete of users.
+ * <p>
+ * Every item is validated up front and the passwords of valid items are BCrypt-hashed by
+ * {@link PasswordHasher}, the same as imported users, before the transaction starts.
+ * Email uniqueness is checked with one query for the
+ * whole batch, and the writes are flushed together so Hibernate can group them into JDBC
+ * batches ({@code hibernate.jdbc.batch_size}) that the driver rewrites into multi-row
+ * statements ({@code reWriteBatchedInserts}). Items that fail validation are reported
+ * individually and do not prevent the rest of the batch from being written.
+ * <p>
+ * An email can be taken by a concurrent request between the uniqueness check and the insert.
+ * The batch is then rolled back and run again in a new transaction, where the check reports
+ * that item as a conflict and the rest of the batch is written.
+ */
+@Service
+@Slf4j
+public class UserBatchServiceImpl implements UserBatchService {
+
+    private static final String BATCH_TOO_LARGE_MSG = "batch.too.large";
+    private static final String CREATED_MSG = "batch.item.created";
+    private static final String UPDATED_MSG = "batch.item.updated";
+    private static final String DELETED_MSG = "batch.item.deleted";
+    private static final String DUPLICATE_IN_BATCH_MSG = "batch.item.duplicate";
+    private static final String EMAIL_EXISTS_MSG = "email.exists";
+    private static final String USER_NOT_FOUND_MSG = "user.not.found";
+    private static final String INVALID_UUID_MSG = "invalid.uuid";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final UserSuggestionService userSuggestionService;
+    private final UserValidator userValidator;
+    private final EntityManager entityManager;
+    private final MessageSource messageSource;
+    private final Cache usersCache;
+    private final AuditService auditService;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate writeTransaction;
+    private final int maxBatchSize;
+
+    public UserBatchServiceImpl(UserRepository userRepository, UserSuggestionService userSuggestionService,
+                                UserValidator userValidator, EntityManager entityManager, MessageSource messageSource,
+                                CacheManager cacheManager, AuditService auditService, PasswordHasher passwordHasher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.users.batch.max-size}") int maxBatchSize) {
+        this.userRepository = userRepository;
+        this.userSuggestionService = userSuggestionService;
+        this.userValidator = userValidator;
+        this.entityManager = entityManager;
+        this.messageSource = messageSource;
+        this.usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        this.auditService = auditService;
+        this.passwordHasher = passwordHasher;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Creates users, and any administrator or manager profile embedded in them, in one transaction.
+     *
+     * @param userDTOs the users to create.
+     * @return one result per submitted item, in request order.
+     */
+    @Override
+    public List<UserBatchResultDTO> createUsers(List<UserDTO> userDTOs) {
+        checkBatchSize(userDTOs.size());
+        UserBatchResultDTO[] rejected = new UserBatchResultDTO[userDTOs.size()];
+        for (int i = 0; i < userDTOs.size(); i++) {
+            rejectIfInvalid(userDTOs.get(i), i, rejected, userValidator::validateNewUser);
+        }
+        String[] passwordHashes = hashPasswords(userDTOs, rejected);
+        return retryOnEmailConflict(() -> writeTransaction.execute(status -> insertUsers(userDTOs, rejected.clone(), passwordHashes)));
+    }
+
+    private List<UserBatchResultDTO> insertUsers(List<UserDTO> userDTOs, UserBatchResultDTO[] results, String[] passwordHashes) {
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < userDTOs.size(); i++) {
+            UserDTO userDTO = userDTOs.get(i);
+            if (results[i] != null) {
+                continue;
+            }
+            if (candidates.putIfAbsent(userDTO.getEmail(), i) != null) {
+                results[i] = result(i, null, HttpStatus.CONFLICT, DUPLICATE_IN_BATCH_MSG, userDTO.getEmail());
+            }
+        }
+
+        Set<String> existingEmails = candidates.isEmpty()
+                ? Collections.emptySet()
+                : userRepository.findExistingEmails(candidates.keySet());
+        Map<Integer, UserEntity> created = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int index = candidate.getValue();
+            if (existingEmails.contains(candidate.getKey())) {
+                results[index] = result(index, null, HttpStatus.CONFLICT, EMAIL_EXISTS_MSG, candidate.getKey());
+                continue;
+            }
+            UserEntity userEntity = UserMapper.toEntity(userDTOs.get(index));
+            userEntity.setId(null);
+            userEntity.setPassword(passwordHashes[index]);
+            entityManager.persist(userEntity);
+            created.put(index, userEntity);
+        }
+        // Users must reach the database before their profiles because of the foreign keys
+        entityManager.flush();
+
+        for (Map.Entry<Integer, UserEntity> entry : created.entrySet()) {
+            persistProfiles(userDTOs.get(entry.getKey()), entry.getValue().getId());
+        }
+        entityManager.flush();
+
+        for (Map.Entry<Integer, UserEntity> entry : created.entrySet()) {
+            UserEntity userEntity = entry.getValue();
+            userSuggestionService.index(UserMapper.toDTO(userEntity));
+            auditService.record(AuditEvent.CREATE, AuditEvent.USER, userEntity.getId());
+            results[entry.getKey()] = result(entry.getKey(), userEntity.getId(), HttpStatus.CREATED, CREATED_MSG);
+        }
+        entityManager.clear();
+        log.info("Batch create: {} of {} users created", created.size(), userDTOs.size());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Updates the first name, last name, email and password of existing users in one transaction.
+     *
+     * @param userDTOs the users to update, identified by their ID.
+     * @return one result per submitted item, in request order.
+     */
+    @Override
+    public List<UserBatchResultDTO> updateUsers(List<UserDTO> userDTOs) {
+        checkBatchSize(userDTOs.size());
+        UserBatchResultDTO[] rejected = new UserBatchResultDTO[userDTOs.size()];
+        for (int i = 0; i < userDTOs.size(); i++) {
+            if (userDTOs.get(i).getId() == null) {
+                rejected[i] = result(i, null, HttpStatus.BAD_REQUEST, INVALID_UUID_MSG);
+            } else {
+                rejectIfInvalid(userDTOs.get(i), i, rejected, userValidator::validate);
+            }
+        }
+        String[] passwordHashes = hashPasswords(userDTOs, rejected);
+        return retryOnEmailConflict(() -> writeTransaction.execute(status -> applyUpdates(userDTOs, rejected.clone(), passwordHashes)));
+    }
+
+    private List<UserBatchResultDTO> applyUpdates(List<UserDTO> userDTOs, UserBatchResultDTO[] results, String[] passwordHashes) {
+        Map<UUID, Integer> candidates = new LinkedHashMap<>();
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < userDTOs.size(); i++) {
+            UserDTO userDTO = userDTOs.get(i);
+            if (results[i] != null) {
+                continue;
+            }
+            if (candidates.containsKey(userDTO.getId()) || !emails.add(userDTO.getEmail())) {
+                results[i] = result(i, userDTO.getId(), HttpStatus.CONFLICT, DUPLICATE_IN_BATCH_MSG, userDTO.getEmail());
+                continue;
+            }
+            candidates.put(userDTO.getId(), i);
+        }
+
+        Map<UUID, UserEntity> existingUsers = candidates.isEmpty()
+                ? Collections.emptyMap()
+                : userRepository.findAllById(candidates.keySet()).stream()
+                        .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+        Set<String> changedEmails = new HashSet<>();
+        for (UserEntity userEntity : existingUsers.values()) {
+            String newEmail = userDTOs.get(candidates.get(userEntity.getId())).getEmail();
+            if (!userEntity.getEmail().equals(newEmail)) {
+                changedEmails.add(newEmail);
+            }
+        }
+        Set<String> takenEmails = changedEmails.isEmpty()
+                ? Collections.emptySet()
+                : userRepository.findExistingEmails(changedEmails);
+
+        List<UserEntity> updated = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> candidate : candidates.entrySet()) {
+            UUID id = candidate.getKey();
+            int index = candidate.getValue();
+            UserDTO userDTO = userDTOs.get(index);
+            UserEntity userEntity = existingUsers.get(id);
+            if (userEntity == null) {
+                results[index] = result(index, id, HttpStatus.NOT_FOUND, USER_NOT_FOUND_MSG, id);
+            } else if (!userEntity.getEmail().equals(userDTO.getEmail()) && takenEmails.contains(userDTO.getEmail())) {
+                results[index] = result(index, id, HttpStatus.CONFLICT, EMAIL_EXISTS_MSG, userDTO.getEmail());
+            } else {
+                userEntity.setFirstName(userDTO.getFirstName());
+                userEntity.setLastName(userDTO.getLastName());
+                userEntity.setEmail(userDTO.getEmail());
+                userEntity.setPassword(passwordHashes[index]);
+                updated.add(userEntity);
+                results[index] = result(index, id, HttpStatus.OK, UPDATED_MSG);
+            }
+        }
+        entityManager.flush();
+        for (UserEntity userEntity : updated) {
+            usersCache.evict(userEntity.getId());
+            userSuggestionService.index(UserMapper.toDTO(userEntity));
+            auditService.record(AuditEvent.UPDATE, AuditEvent.USER, userEntity.getId());
+        }
+        entityManager.clear();
+        log.info("Batch update: {} of {} users updated", updated.size(), userDTOs.size());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Soft deletes users with a single bulk statement. The rows, and their profiles, are removed later by the purge job.
+     *
+     * @param ids the IDs of the users to delete.
+     * @return one result per submitted item, in request order.
+     */
+    @Override
+    @Transactional
+    public List<UserBatchResultDTO> deleteUsers(List<UUID> ids) {
+        checkBatchSize(ids.size());
+        UserBatchResultDTO[] results = new UserBatchResultDTO[ids.size()];
+        Set<UUID> requested = new HashSet<>();
+        for (UUID id : ids) {
+            if (id != null) {
+                requested.add(id);
+            }
+        }
+        Set<UUID> existing = requested.isEmpty() ? Collections.emptySet() : userRepository.findExistingIds(requested);
+        if (!existing.isEmpty()) {
+            userRepository.softDeleteAllByIdIn(existing, LocalDateTime.now());
+        }
+
+        Set<UUID> reported = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            if (id == null) {
+                results[i] = result(i, null, HttpStatus.BAD_REQUEST, INVALID_UUID_MSG);
+            } else if (existing.contains(id) && reported.add(id)) {
+                usersCache.evict(id);
+                userSuggestionService.remove(id);
+                auditService.record(AuditEvent.DELETE, AuditEvent.USER, id);
+                results[i] = result(i, id, HttpStatus.OK, DELETED_MSG);
+            } else {
+                results[i] = result(i, id, HttpStatus.NOT_FOUND, USER_NOT_FOUND_MSG, id);
+            }
+        }
+        log.info("Batch delete: {} of {} users deleted", existing.size(), ids.size());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Looks up many users by ID. Users already in the users cache are served from it and the rest
+     * are loaded from the primary with a single {@code id = ANY(?)} query, then cached for subsequent single reads.
+     *
+     * @param ids the UUIDs of the users to look up; null and repeated IDs are ignored.
+     * @return the users found, in request order, and the IDs that do not exist.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserLookupResultDTO lookupUsers(List<UUID> ids) {
+        checkBatchSize(ids.size());
+        Map<UUID, UserDTO> found = new LinkedHashMap<>();
+        List<UUID> uncached = new ArrayList<>();
+        for (UUID id : ids) {
+            if (id == null || found.containsKey(id)) {
+                continue;
+            }
+            UserDTO cachedUser = usersCache.get(id, UserDTO.class);
+            found.put(id, cachedUser);
+            if (cachedUser == null) {
+                uncached.add(id);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            List<UserEntity> loaded = ReplicaRoutingDataSource.readFromPrimary(
+                    () -> userRepository.findAllByIdArray(uncached.toArray(UUID[]::new)));
+            for (UserEntity userEntity : loaded) {
+                UserDTO userDTO = UserMapper.toDTO(userEntity);
+                usersCache.put(userDTO.getId(), userDTO);
+                found.put(userDTO.getId(), userDTO);
+            }
+        }
+
+        List<UserDTO> users = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        found.forEach((id, userDTO) -> {
+            if (userDTO != null) {
+                users.add(userDTO);
+            } else {
+                missing.add(id);
+            }
+        });
+        return new UserLookupResultDTO(users, missing);
+    }
+
+    private void persistProfiles(UserDTO userDTO, UUID userId) {
+        AdministratorProfileDTO adminProfileDTO = userDTO.getAdministratorProfile();
+        if (adminProfileDTO != null) {
+            AdministratorProfileEntity adminProfile = new AdministratorProfileEntity();
+            adminProfile.setUserId(userId);
+            adminProfile.setDepartment(adminProfileDTO.getDepartment());
+            adminProfile.setPermissionsLevel(adminProfileDTO.getPermissionsLevel());
+            entityManager.persist(adminProfile);
+        }
+        ManagerProfileDTO managerProfileDTO = userDTO.getManagerProfile();
+        if (managerProfileDTO != null) {
+            ManagerProfileEntity managerProfile = new ManagerProfileEntity();
+            managerProfile.setUserId(userId);
+            managerProfile.setTeamSize(managerProfileDTO.getTeamSize());
+            managerProfile.setAreaOfResponsibility(managerProfileDTO.getAreaOfResponsibility());
+            entityManager.persist(managerProfile);
+        }
+    }
+
+    private List<UserBatchResultDTO> retryOnEmailConflict(Supplier<List<UserBatchResultDTO>> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return batch.get();
+            } catch (RuntimeException e) {
+                if (!isEmailConflict(e)) {
+                    throw e;
+                }
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new DataIntegrityViolationException("Email taken concurrently on every attempt", e);
+                }
+                log.debug("Batch hit an email taken concurrently, retrying (attempt {} of {})", attempt + 1, MAX_ATTEMPTS);
+            }
+        }
+    }
+
+    private static boolean isEmailConflict(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && UserRepository.EMAIL_UNIQUE_CONSTRAINT.equals(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof PSQLException psqlException) {
+                ServerErrorMessage serverError = psqlException.getServerErrorMessage();
+                return serverError != null && UserRepository.EMAIL_UNIQUE_CONSTRAINT.equals(serverError.getConstraint());
+            }
+        }
+        return false;
+    }
+
+    // Hashed outside the transaction: BCrypt takes tens of milliseconds per password
+    private String[] hashPasswords(List<UserDTO> userDTOs, UserBatchResultDTO[] rejected) {
+        List<Integer> indexes = new ArrayList<>();
+        List<String> passwords = new ArrayList<>();
+        for (int i = 0; i < userDTOs.size(); i++) {
+            if (rejected[i] == null) {
+                indexes.add(i);
+                passwords.add(userDTOs.get(i).getPassword());
+            }
+        }
+        List<String> hashes = passwordHasher.hashAll(passwords);
+        String[] passwordHashes = new String[userDTOs.size()];
+        for (int i = 0; i < indexes.size(); i++) {
+            passwordHashes[indexes.get(i)] = hashes.get(i);
+        }
+        return passwordHashes;
+    }
+
+    private void rejectIfInvalid(UserDTO userDTO, int index, UserBatchResultDTO[] results, Consumer<UserDTO> validation) {
+        try {
+            validation.accept(userDTO);
+        } catch (EmptyEmailException | InvalidEmailException | EmptyPasswordException | InvalidPasswordException
+                 | InvalidParameterException e) {
+            results[index] = new UserBatchResultDTO(index, userDTO.getId(), HttpStatus.BAD_REQUEST.value(), e.getMessage());
+        }
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > maxBatchSize) {
+            String message = messageSource.getMessage(BATCH_TOO_LARGE_MSG, new Object[]{size, maxBatchSize}, LocaleContextHolder.getLocale());
+            throw new BatchSizeExceededException(message, size, maxBatchSize);
+        }
+    }
+
+    private UserBatchResultDTO result(int index, UUID id, HttpStatus status, String messageKey, Object... args) {
+        String message = messageSource.getMessage(messageKey, args, LocaleContextHolder.getLocale());
+        return new UserBatchResultDTO(index, id, status.value(), message);
+    }
+}
@@ -0,0 +1,233 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.events.UserChangeEvent;
+import com.microservices.userservice.api.exceptions.CursorExpiredException;
+import com.microservices.userservice.api.models.dto.UserChangeDTO;
+import com.microservices.userservice.api.models.dto.UserChangesDTO;
+import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.repositories.UserRepository;
+import com.microservices.userservice.api.services.UserChangeFeedService;
+import com.microservices.userservice.api.util.PageParameters;
+import com.microservices.userservice.api.util.UserChangeCursor;
+import com.microservices.userservice.api.util.UserMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Incremental change feed over users, so consumers can stay in sync in time proportional to
+ * the number of changes instead of re-reading the whole table.
+ * <p>
+ * The pull side pages through users in (change_xid, id) order from a cursor, i.e. by writing
+ * transaction. Soft-deleted users are returned as tombstones until the purge job removes them, which is
+ * why a cursor issued longer ago than the purge retention is rejected with 410 and the consumer must
+ * resynchronize. Changes are returned only once every older transaction has finished, so a long
+ * transaction holds the feed back until it commits instead of being skipped by consumers that moved past it.
+ * <p>
+ * The push side streams every committed change over server-sent events, fed by the
+ * {@code user_changes} notifications. Each event's id is a feed cursor, so a consumer that loses the
+ * stream can catch up with {@code since} and reconnect; catching up may return changes it already received.
+ * Events are queued per subscriber and written by a small pool of its own, never by the notification
+ * listener thread, so a slow client cannot delay cache invalidation. A subscriber whose queue is full has
+ * fallen behind and is disconnected; it catches up from the last event id it received.
+ */
+@Service
+@Slf4j
+public class UserChangeFeedServiceImpl implements UserChangeFeedService {
+
+    public static final String CHANGE_EVENT = "user-change";
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final String CURSOR_EXPIRED_MSG = "cursor.expired";
+
+    private final UserRepository userRepository;
+    private final LocalizedMessages localizedMessages;
+    private final byte[] cursorKey;
+    private final long retentionHours;
+    private final long streamTimeoutMs;
+    private final int streamBuffer;
+    private final ExecutorService streamExecutor;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public UserChangeFeedServiceImpl(UserRepository userRepository, LocalizedMessages localizedMessages,
+                                     @Value("${app.users.changes.cursor-secret}") String cursorSecret,
+                                     @Value("${app.users.purge.retention-hours}") long retentionHours,
+                                     @Value("${app.users.changes.stream-timeout-ms}") long streamTimeoutMs,
+                                     @Value("${app.users.changes.stream-threads}") int streamThreads,
+                                     @Value("${app.users.changes.stream-buffer}") int streamBuffer) {
+        this.userRepository = userRepository;
+        this.localizedMessages = localizedMessages;
+        this.cursorKey = cursorSecret.getBytes(StandardCharsets.UTF_8);
+        this.retentionHours = retentionHours;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.streamBuffer = streamBuffer;
+        this.streamExecutor = Executors.newFixedThreadPool(streamThreads, new CustomizableThreadFactory("user-change-stream-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+    }
+
+    /**
+     * Reads the changes after a cursor.
+     *
+     * @param since the cursor returned by the previous call, or null to read the feed from the start.
+     * @param size  the maximum number of changes to return.
+     * @return the changes in feed order and the cursor to continue from.
+     * @throws CursorExpiredException if tombstones after the cursor may already have been purged.
+     */
+    @Override
+    // Deliberately not read-only, so the feed always reads the primary: on a lagging replica the cursor
+    // could move past rows that have not been replayed yet, and those changes would never be delivered
+    @Transactional
+    public UserChangesDTO getChanges(String since, int size) {
+        Pageable pageable = PageParameters.of(0, size, Sort.unsorted());
+        LocalDateTime now = LocalDateTime.now();
+        UserChangeCursor cursor = since == null || since.isEmpty() ? null : UserChangeCursor.decode(since, cursorKey);
+        // A cursor issued within the retention cannot have missed a tombstone: anything deleted after it
+        // was issued is purged no earlier than retention-hours after the deletion
+        if (cursor != null && cursor.issuedAt().isBefore(now.minusHours(retentionHours))) {
+            throw new CursorExpiredException(localizedMessages.format(CURSOR_EXPIRED_MSG, retentionHours), since);
+        }
+
+        Slice<UserEntity> changed = cursor == null
+                ? userRepository.findFirstChanges(pageable)
+                : userRepository.findChangesAfter(cursor.changeXid(), cursor.id(), pageable);
+        List<UserChangeDTO> changes = changed.map(userEntity -> toChange(userEntity, now)).getContent();
+        String next;
+        if (!changes.isEmpty()) {
+            next = changes.get(changes.size() - 1).getCursor();
+        } else {
+            // Nothing new: keep the position, but renew the issue time so an idle consumer does not expire
+            next = cursor == null ? null : cursor.reissue(now).encode(cursorKey);
+        }
+        return new UserChangesDTO(changes, next, changed.hasNext());
+    }
+
+    /**
+     * Opens a server-sent event stream of committed user changes. Events carry tombstone-style entries
+     * (id, type, time and cursor, without the user), and a resync event asks consumers to catch up
+     * through {@link #getChanges(String, int)} because notifications may have been missed or a bulk write,
+     * such as an import, was not announced row by row.
+     *
+     * @return the emitter for the new subscriber.
+     */
+    @Override
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, streamBuffer);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        return emitter;
+    }
+
+    @EventListener
+    public void onUserChange(UserChangeEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (event.isResync() || event.isBulkUserChange()) {
+            broadcast(RESYNC_EVENT, null, "");
+        } else if (event.isUserChange() && !UserChangeEvent.DELETE.equals(event.operation())) {
+            // Hard deletes only come from the purge, long after the soft delete was streamed as a tombstone
+            // The event's own position is not safe to resume from: an older transaction may still commit below it
+            UserChangeCursor cursor = event.feedXmin() == null ? null : UserChangeCursor.before(event.feedXmin(), LocalDateTime.now());
+            UserChangeDTO change = new UserChangeDTO(event.id(), event.softDelete() ? UserChangeDTO.DELETE : UserChangeDTO.UPSERT,
+                    event.lastUpdate(), cursor == null ? null : cursor.encode(cursorKey), null);
+            broadcast(CHANGE_EVENT, change.getCursor(), change);
+        }
+    }
+
+    // Runs on the notification listener thread, so it only queues: sending happens on the stream executor
+    private void broadcast(String name, String id, Object data) {
+        for (Subscriber subscriber : subscribers) {
+            SseEmitter.SseEventBuilder sseEvent = SseEmitter.event().name(name).data(data);
+            if (id != null) {
+                sseEvent.id(id);
+            }
+            if (!subscriber.pending.offer(sseEvent)) {
+                drop(subscriber, "fell behind by " + streamBuffer + " events");
+            } else if (subscriber.draining.compareAndSet(false, true)) {
+                try {
+                    streamExecutor.execute(() -> drain(subscriber));
+                } catch (RejectedExecutionException e) {
+                    drop(subscriber, "stream executor is shut down");
+                }
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            SseEmitter.SseEventBuilder sseEvent = subscriber.pending.poll();
+            if (sseEvent == null) {
+                subscriber.draining.set(false);
+                // An event queued after the poll but before the flag was cleared found the drain still running
+                if (subscriber.pending.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                subscriber.emitter.send(sseEvent);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping user change subscriber: {}", e.getMessage());
+                subscribers.remove(subscriber);
+                return;
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Closing user change subscriber that {}", reason);
+            subscriber.pending.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private UserChangeDTO toChange(UserEntity userEntity, LocalDateTime issuedAt) {
+        String cursor = new UserChangeCursor(userEntity.getChangeXid(), userEntity.getId(), issuedAt).encode(cursorKey);
+        if (userEntity.isSoftDelete()) {
+            return new UserChangeDTO(userEntity.getId(), UserChangeDTO.DELETE, userEntity.getLastUpdate(), cursor, null);
+        }
+        return new UserChangeDTO(userEntity.getId(), UserChangeDTO.UPSERT, userEntity.getLastUpdate(), cursor,
+                UserMapper.toDTO(userEntity));
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+        // Whether a drain task is queued or running, so at most one thread writes to the emitter
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.userservice.api.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estimates user counts from PostgreSQL planner statistics instead of counting rows.
+ * <p>
+ * The unfiltered total comes from {@code pg_class.reltuples} of the live-users index, which autovacuum/ANALYZE keeps
+ * current. Search totals come from the planner's row estimate for the search predicate. Both
+ * cost a catalog lookup or a plan, independent of table size.
+ */
+@Component
+@Slf4j
+public class UserCountEstimator {
+
+    // The partial keyset index only holds live users, so its tuple estimate excludes soft-deleted rows
+    private static final String TABLE_ESTIMATE_SQL = "SELECT reltuples::BIGINT FROM pg_class WHERE oid = 'idx_users_creation_date_id'::regclass";
+    private static final String SEARCH_ESTIMATE_SQL = "EXPLAIN (FORMAT JSON) SELECT 1 FROM users WHERE "
+            + UserRepository.SEARCH_PREDICATE.replace(":pattern", "?");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+
+    public UserCountEstimator(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, UserRepository userRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * @return the estimated number of users, or an exact count if the table has never been analyzed.
+     */
+    public long estimateAll() {
+        Long estimate = jdbcTemplate.queryForObject(TABLE_ESTIMATE_SQL, Long.class);
+        if (estimate == null || estimate < 0) {
+            // reltuples is -1 until the first VACUUM/ANALYZE; the table is small at that point
+            return userRepository.count();
+        }
+        return estimate;
+    }
+
+    /**
+     * @param pattern the LIKE pattern used by the search query.
+     * @return the planner's estimate of the number of matching users.
+     */
+    public long estimateSearch(String pattern) {
+        try {
+            String plan = jdbcTemplate.queryForObject(SEARCH_ESTIMATE_SQL, String.class, pattern);
+            JsonNode root = objectMapper.readTree(plan);
+            return root.path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (Exception e) {
+            log.warn("Could not estimate search count, falling back to an exact count: {}", e.getMessage());
+            return userRepository.countByRelevance(pattern);
+        }
+    }
+}
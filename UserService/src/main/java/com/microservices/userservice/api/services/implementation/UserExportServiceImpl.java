@@ -0,0 +1,124 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.repositories.UserRepository;
+import com.microservices.userservice.api.services.UserExportService;
+import com.microservices.userservice.api.util.CsvUtils;
+import com.microservices.userservice.api.util.DataFormat;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams every user to an output stream in constant memory.
+ * <p>
+ * Rows come from a server-side cursor (fetch size hint on {@link UserRepository#streamAllForExport()})
+ * inside a read-only transaction, and each entity is detached as soon as it has been written so the
+ * persistence context never grows. Password hashes are never exported.
+ */
+@Service
+@Slf4j
+public class UserExportServiceImpl implements UserExportService {
+
+    private static final String CSV_HEADER = "id,first_name,last_name,email,creation_date,last_update,role";
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public UserExportServiceImpl(UserRepository userRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(DataFormat format, OutputStream outputStream) throws IOException {
+        long rows = 0;
+        try (Stream<UserEntity> users = userRepository.streamAllForExport()) {
+            Iterator<UserEntity> iterator = users.iterator();
+            if (format == DataFormat.CSV) {
+                rows = writeCsv(iterator, outputStream);
+            } else {
+                rows = writeNdjson(iterator, outputStream);
+            }
+        } finally {
+            log.info("Exported {} users as {}", rows, format);
+        }
+    }
+
+    private long writeCsv(Iterator<UserEntity> users, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        writer.flush();
+        long rows = 0;
+        while (users.hasNext()) {
+            UserEntity user = users.next();
+            writer.write(CsvUtils.escape(user.getId()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(user.getFirstName()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(user.getLastName()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(user.getEmail()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(user.getCreationDate()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(user.getLastUpdate()));
+            writer.write(',');
+            writer.write(CsvUtils.escape(user.getRole()));
+            writer.write('\n');
+            entityManager.detach(user);
+            if (++rows % FLUSH_EVERY_ROWS == 1) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<UserEntity> users, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long rows = 0;
+        while (users.hasNext()) {
+            UserEntity user = users.next();
+            generator.writeStartObject();
+            generator.writeStringField("id", user.getId().toString());
+            generator.writeStringField("firstName", user.getFirstName());
+            generator.writeStringField("lastName", user.getLastName());
+            generator.writeStringField("email", user.getEmail());
+            generator.writeStringField("creationDate", toText(user.getCreationDate()));
+            generator.writeStringField("lastUpdate", toText(user.getLastUpdate()));
+            generator.writeStringField("role", user.getRole());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            entityManager.detach(user);
+            if (++rows % FLUSH_EVERY_ROWS == 1) {
+                generator.flush();
+            }
+        }
+        generator.close();
+        return rows;
+    }
+
+    private String toText(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
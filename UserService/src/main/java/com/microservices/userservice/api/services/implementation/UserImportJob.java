@@ -0,0 +1,107 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.models.dto.UserImportJobDTO;
+import com.microservices.userservice.api.util.DataFormat;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable progress of a single user import, written by the job thread and read by status requests.
+ */
+@Getter
+class UserImportJob {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final UUID id;
+    private final DataFormat format;
+    private final Path file;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile UserImportJobDTO.Status status = UserImportJobDTO.Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startNanos;
+    private volatile long elapsedNanos;
+    private volatile long rowsImported;
+    private volatile long rowsSkipped;
+
+    UserImportJob(UUID id, DataFormat format, Path file) {
+        this.id = id;
+        this.format = format;
+        this.file = file;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        startNanos = System.nanoTime();
+        status = UserImportJobDTO.Status.RUNNING;
+    }
+
+    long nextRow() {
+        return rowsRead.incrementAndGet();
+    }
+
+    void reject(long row, String reason) {
+        rowsRejected.incrementAndGet();
+        addError("Row " + row + ": " + reason);
+    }
+
+    void complete(long imported, long staged) {
+        rowsImported = imported;
+        rowsSkipped = staged - imported;
+        finish(UserImportJobDTO.Status.COMPLETED);
+    }
+
+    void fail(String reason) {
+        addError(reason);
+        finish(UserImportJobDTO.Status.FAILED);
+    }
+
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    UserImportJobDTO toDTO() {
+        UserImportJobDTO jobDTO = new UserImportJobDTO();
+        jobDTO.setId(id);
+        jobDTO.setStatus(status);
+        jobDTO.setFormat(format.name().toLowerCase());
+        jobDTO.setSubmittedAt(submittedAt);
+        jobDTO.setStartedAt(startedAt);
+        jobDTO.setFinishedAt(finishedAt);
+        jobDTO.setRowsRead(rowsRead.get());
+        jobDTO.setRowsRejected(rowsRejected.get());
+        jobDTO.setRowsImported(rowsImported);
+        jobDTO.setRowsSkipped(rowsSkipped);
+        long elapsed = status == UserImportJobDTO.Status.RUNNING ? System.nanoTime() - startNanos : elapsedNanos;
+        jobDTO.setRowsPerSecond(elapsed > 0 ? rowsRead.get() * 1_000_000_000.0 / elapsed : 0);
+        synchronized (errors) {
+            jobDTO.setErrors(errors.isEmpty() ? null : List.copyOf(errors));
+        }
+        return jobDTO;
+    }
+
+    private void finish(UserImportJobDTO.Status finalStatus) {
+        elapsedNanos = startNanos == 0 ? 0 : System.nanoTime() - startNanos;
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    private void addError(String error) {
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.userservice.api.events.AuditEvent;
+import com.microservices.userservice.api.exceptions.EmptyEmailException;
+import com.microservices.userservice.api.exceptions.EmptyPasswordException;
+import com.microservices.userservice.api.exceptions.InvalidEmailException;
+import com.microservices.userservice.api.exceptions.InvalidParameterException;
+import com.microservices.userservice.api.exceptions.InvalidPasswordException;
+import com.microservices.userservice.api.exceptions.ResourceNotFoundException;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserImportJobDTO;
+import com.microservices.userservice.api.models.dto.UserSuggestionDTO;
+import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.repositories.UserRepository;
+import com.microservices.userservice.api.services.AuditService;
+import com.microservices.userservice.api.services.UserImportService;
+import com.microservices.userservice.api.services.UserSuggestionService;
+import com.microservices.userservice.api.util.CsvUtils;
+import com.microservices.userservice.api.util.DataFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bulk user import running as an asynchronous job.
+ * <p>
+ * The upload is read line by line and validated as a stream. Valid rows are collected into
+ * chunks whose passwords are BCrypt-hashed by {@link PasswordHasher}, like batch-created users,
+ * and written to a local file in {@code COPY} format. Only then is a database connection taken:
+ * one short transaction streams the file with PostgreSQL {@code COPY} into a transaction-scoped
+ * staging table and merges it into {@code users} with a single
+ * {@code INSERT ... SELECT ... ON CONFLICT DO NOTHING}, skipping emails that already exist.
+ * Hashing can take hours for a large file, and a transaction open that long would hold a pooled
+ * connection and the cluster's snapshot xmin, stalling vacuum and the change feed.
+ */
+@Service
+@Slf4j
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final String STAGING_TABLE_DDL = "CREATE TEMP TABLE users_import_staging ("
+            + "first_name VARCHAR(50), last_name VARCHAR(50), email VARCHAR(255), password VARCHAR(100), role VARCHAR(15)"
+            + ") ON COMMIT DROP";
+    private static final String COPY_SQL = "COPY users_import_staging (first_name, last_name, email, password, role) FROM STDIN WITH (FORMAT csv)";
+    private static final String MERGE_SQL = "INSERT INTO users (first_name, last_name, email, password, role, last_update) "
+            + "SELECT first_name, last_name, email, password, role, statement_timestamp() FROM users_import_staging "
+            + "ON CONFLICT (email) WHERE " + UserEntity.NOT_DELETED + " DO NOTHING "
+            + "RETURNING id, email, first_name, last_name";
+    private static final List<String> CSV_COLUMNS = List.of("first_name", "last_name", "email", "password", "role");
+    private static final String IMPORT_JOB_NOT_FOUND_MSG = "import.job.not.found";
+
+    private final DataSource dataSource;
+    private final UserValidator userValidator;
+    private final PasswordHasher passwordHasher;
+    private final ObjectMapper objectMapper;
+    private final UserSuggestionService userSuggestionService;
+    private final AuditService auditService;
+    private final AsyncTaskExecutor jobExecutor;
+    private final MessageSource messageSource;
+    private final int chunkSize;
+    private final long retentionHours;
+    private final Map<UUID, UserImportJob> jobs = new ConcurrentHashMap<>();
+
+    public UserImportServiceImpl(DataSource dataSource, UserValidator userValidator, PasswordHasher passwordHasher,
+                                 ObjectMapper objectMapper, UserSuggestionService userSuggestionService, AuditService auditService,
+                                 @Qualifier("applicationTaskExecutor") AsyncTaskExecutor jobExecutor, MessageSource messageSource,
+                                 @Value("${app.users.import.chunk-size}") int chunkSize,
+                                 @Value("${app.users.import.retention-hours}") long retentionHours) {
+        this.dataSource = dataSource;
+        this.userValidator = userValidator;
+        this.passwordHasher = passwordHasher;
+        this.objectMapper = objectMapper;
+        this.userSuggestionService = userSuggestionService;
+        this.auditService = auditService;
+        this.jobExecutor = jobExecutor;
+        this.messageSource = messageSource;
+        this.chunkSize = chunkSize;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * Stores the upload and queues an import job for it.
+     *
+     * @param format the format of the uploaded file.
+     * @param file   the uploaded CSV or NDJSON file.
+     * @return the queued job.
+     * @throws IOException if the upload cannot be stored for the job.
+     */
+    @Override
+    public UserImportJobDTO submitImport(DataFormat format, MultipartFile file) throws IOException {
+        Path path = Files.createTempFile("user-import-", "." + format.getFileExtension());
+        file.transferTo(path);
+        UserImportJob job = new UserImportJob(UUID.randomUUID(), format, path);
+        evictExpiredJobs();
+        jobs.put(job.getId(), job);
+        // Rejection messages and audit events are produced on the job thread, in the locale and
+        // on behalf of the principal of the request that submitted it
+        Locale locale = LocaleContextHolder.getLocale();
+        jobExecutor.execute(new DelegatingSecurityContextRunnable(() -> {
+            LocaleContextHolder.setLocale(locale);
+            try {
+                runImport(job);
+            } finally {
+                LocaleContextHolder.resetLocaleContext();
+            }
+        }));
+        log.info("Queued user import job {} ({} bytes, {})", job.getId(), file.getSize(), format);
+        return job.toDTO();
+    }
+
+    @Override
+    public UserImportJobDTO getImportJob(UUID jobId) {
+        UserImportJob job = jobs.get(jobId);
+        if (job == null) {
+            String message = messageSource.getMessage(IMPORT_JOB_NOT_FOUND_MSG, new Object[]{jobId}, LocaleContextHolder.getLocale());
+            log.warn(message);
+            throw new ResourceNotFoundException(message, jobId);
+        }
+        return job.toDTO();
+    }
+
+    private void runImport(UserImportJob job) {
+        job.start();
+        Path rows = null;
+        try {
+            rows = Files.createTempFile("user-import-rows-", ".csv");
+            long staged = prepareRows(job, rows);
+            List<UserSuggestionDTO> imported = new ArrayList<>();
+            try (Connection connection = dataSource.getConnection()) {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    try (Statement statement = connection.createStatement()) {
+                        // One notification for the whole merge instead of one per imported row
+                        statement.execute(UserRepository.BULK_CHANGE_NOTIFICATIONS);
+                        statement.execute(STAGING_TABLE_DDL);
+                    }
+                    copyIntoStaging(connection, rows);
+                    mergeStaging(connection, imported);
+                    connection.commit();
+                } catch (Exception e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+            imported.forEach(this::indexSuggestion);
+            auditService.recordAll(AuditEvent.CREATE, AuditEvent.USER, imported.stream().map(UserSuggestionDTO::getId).toList());
+            job.complete(imported.size(), staged);
+            log.info("User import job {} completed: {} read, {} rejected, {} imported",
+                    job.getId(), job.getRowsRead().get(), job.getRowsRejected().get(), imported.size());
+        } catch (Exception e) {
+            log.error("User import job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteFile(job.getFile());
+            if (rows != null) {
+                deleteFile(rows);
+            }
+        }
+    }
+
+    /**
+     * Parses, validates and hashes the upload into {@code COPY} rows without touching the database.
+     *
+     * @return the number of rows written.
+     */
+    private long prepareRows(UserImportJob job, Path rows) throws IOException {
+        long staged = 0;
+        try (BufferedReader reader = Files.newBufferedReader(job.getFile(), StandardCharsets.UTF_8);
+             Writer writer = Files.newBufferedWriter(rows, StandardCharsets.UTF_8)) {
+            Map<String, Integer> header = job.getFormat() == DataFormat.CSV ? readCsvHeader(reader) : null;
+            List<UserDTO> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                long row = job.nextRow();
+                UserDTO userDTO = parseRow(line, header, job, row);
+                if (userDTO != null && isValid(userDTO, job, row)) {
+                    chunk.add(userDTO);
+                    if (chunk.size() == chunkSize) {
+                        staged += writeChunk(writer, chunk);
+                        chunk.clear();
+                    }
+                }
+            }
+            staged += writeChunk(writer, chunk);
+        }
+        return staged;
+    }
+
+    private void copyIntoStaging(Connection connection, Path rows) throws SQLException, IOException {
+        try (Reader reader = Files.newBufferedReader(rows, StandardCharsets.UTF_8)) {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, reader);
+        }
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Map<String, Integer> readCsvHeader(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        Map<String, Integer> header = new HashMap<>();
+        if (line != null) {
+            List<String> columns = CsvUtils.parseLine(line);
+            for (int i = 0; i < columns.size(); i++) {
+                header.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!header.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header must contain the columns " + CSV_COLUMNS);
+            }
+        }
+        return header;
+    }
+
+    private UserDTO parseRow(String line, Map<String, Integer> header, UserImportJob job, long row) {
+        if (header == null) {
+            try {
+                return objectMapper.readValue(line, UserDTO.class);
+            } catch (JsonProcessingException e) {
+                job.reject(row, "Malformed JSON: " + e.getOriginalMessage());
+                return null;
+            }
+        }
+        List<String> fields = CsvUtils.parseLine(line);
+        UserDTO userDTO = new UserDTO();
+        userDTO.setFirstName(field(fields, header, "first_name"));
+        userDTO.setLastName(field(fields, header, "last_name"));
+        userDTO.setEmail(field(fields, header, "email"));
+        userDTO.setPassword(field(fields, header, "password"));
+        userDTO.setRole(field(fields, header, "role"));
+        return userDTO;
+    }
+
+    private String field(List<String> fields, Map<String, Integer> header, String column) {
+        int index = header.get(column);
+        if (index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private boolean isValid(UserDTO userDTO, UserImportJob job, long row) {
+        try {
+            userValidator.validateNewUser(userDTO);
+            return true;
+        } catch (EmptyEmailException | InvalidEmailException | EmptyPasswordException | InvalidPasswordException
+                 | InvalidParameterException e) {
+            job.reject(row, e.getMessage());
+            return false;
+        }
+    }
+
+    private long writeChunk(Writer writer, List<UserDTO> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<String> hashes = passwordHasher.hashAll(chunk.stream().map(UserDTO::getPassword).toList());
+        for (int i = 0; i < chunk.size(); i++) {
+            UserDTO userDTO = chunk.get(i);
+            writer.append(CsvUtils.escape(userDTO.getFirstName())).append(',')
+                    .append(CsvUtils.escape(userDTO.getLastName())).append(',')
+                    .append(CsvUtils.escape(userDTO.getEmail())).append(',')
+                    .append(CsvUtils.escape(hashes.get(i))).append(',')
+                    .append(CsvUtils.escape(userDTO.getRole().toLowerCase(Locale.ROOT))).append('\n');
+        }
+        return chunk.size();
+    }
+
+    private void mergeStaging(Connection connection, List<UserSuggestionDTO> imported) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(MERGE_SQL)) {
+            while (resultSet.next()) {
+                imported.add(new UserSuggestionDTO(resultSet.getObject("id", UUID.class), resultSet.getString("email"),
+                        resultSet.getString("first_name"), resultSet.getString("last_name")));
+            }
+        }
+    }
+
+    private void indexSuggestion(UserSuggestionDTO suggestion) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(suggestion.getId());
+        userDTO.setEmail(suggestion.getEmail());
+        userDTO.setFirstName(suggestion.getFirstName());
+        userDTO.setLastName(suggestion.getLastName());
+        userSuggestionService.index(userDTO);
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,87 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserPatchDTO;
+import com.microservices.userservice.api.models.entities.UserEntity;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Applies partial user updates as a single {@code UPDATE ... RETURNING} statement.
+ * <p>
+ * Loading the entity, checking it and saving it back costs at least two round trips and lets
+ * the last writer silently overwrite a concurrent change. Here only the supplied columns are
+ * written, the optional version check is part of the WHERE clause and the updated row comes
+ * back from the same statement.
+ */
+@Component
+public class UserPartialUpdater {
+
+    private static final String RETURNING_COLUMNS = " RETURNING id, first_name, last_name, email, password, "
+            + "creation_date, last_update, soft_delete, role, version";
+
+    private static final RowMapper<UserDTO> USER_ROW_MAPPER = (rs, rowNum) -> {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(rs.getObject("id", UUID.class));
+        userDTO.setFirstName(rs.getString("first_name"));
+        userDTO.setLastName(rs.getString("last_name"));
+        userDTO.setEmail(rs.getString("email"));
+        userDTO.setPassword(rs.getString("password"));
+        userDTO.setCreationDate(rs.getObject("creation_date", LocalDateTime.class));
+        userDTO.setLastUpdate(rs.getObject("last_update", LocalDateTime.class));
+        userDTO.setSoftDelete(rs.getBoolean("soft_delete"));
+        userDTO.setRole(rs.getString("role"));
+        userDTO.setVersion(rs.getLong("version"));
+        return userDTO;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserPartialUpdater(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Writes the fields present in the patch and bumps the version.
+     *
+     * @param id              the ID of the user to update.
+     * @param patch           the fields to change; must not be empty.
+     * @param expectedVersion the version the client last saw, or null to update unconditionally.
+     * @return the updated user, or empty if no user has this ID and expected version.
+     */
+    public Optional<UserDTO> patch(UUID id, UserPatchDTO patch, Long expectedVersion) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("id", id)
+                .addValue("lastUpdate", LocalDateTime.now());
+        StringBuilder sql = new StringBuilder("UPDATE users SET ");
+        if (patch.isFirstNameSet()) {
+            sql.append("first_name = :firstName, ");
+            parameters.addValue("firstName", patch.getFirstName());
+        }
+        if (patch.isLastNameSet()) {
+            sql.append("last_name = :lastName, ");
+            parameters.addValue("lastName", patch.getLastName());
+        }
+        if (patch.isEmailSet()) {
+            sql.append("email = :email, ");
+            parameters.addValue("email", patch.getEmail());
+        }
+        if (patch.isPasswordSet()) {
+            sql.append("password = :password, ");
+            parameters.addValue("password", patch.getPassword());
+        }
+        sql.append("last_update = :lastUpdate, version = version + 1 WHERE id = :id AND ").append(UserEntity.NOT_DELETED);
+        if (expectedVersion != null) {
+            sql.append(" AND version = :version");
+            parameters.addValue("version", expectedVersion);
+        }
+        List<UserDTO> updated = jdbcTemplate.query(sql.append(RETURNING_COLUMNS).toString(), parameters, USER_ROW_MAPPER);
+        return updated.stream().findFirst();
+    }
+}
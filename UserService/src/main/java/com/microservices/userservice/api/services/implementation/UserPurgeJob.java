@@ -0,0 +1,127 @@
+package com.microservices.userservice.api.services.implementation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.microservices.userservice.api.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Physically removes soft-deleted users once their retention period has passed.
+ * <p>
+ * Runs on a cron schedule meant for quiet hours. Each batch is its own short transaction that
+ * deletes at most {@code batch-size} users (their profiles go with them through the foreign key
+ * cascade), skipping rows locked by concurrent writers, and batches are separated by a pause so
+ * the purge never holds locks long enough to be noticed by live traffic. A run stops after
+ * {@code max-batches}; whatever is left is picked up by the next run. Batches send no change
+ * notifications: every purged user was already announced when it was soft deleted.
+ * <p>
+ * Publishes {@code users.purge.backlog} (soft-deleted users still in the table),
+ * {@code users.purge.deleted} and {@code users.purge.batch} (per-batch latency).
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.users.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class UserPurgeJob {
+
+    // Served by the partial idx_users_purge index, oldest deletions first
+    private static final String PURGE_BATCH_SQL = "DELETE FROM users WHERE id IN ("
+            + "SELECT id FROM users WHERE soft_delete = true AND last_update < ? "
+            + "ORDER BY last_update LIMIT ? FOR UPDATE SKIP LOCKED)";
+    private static final String BACKLOG_SQL = "SELECT count(*) FROM users WHERE soft_delete = true";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final long retentionHours;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMs;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Timer batchTimer;
+
+    public UserPurgeJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                        @Value("${app.users.purge.retention-hours}") long retentionHours,
+                        @Value("${app.users.purge.batch-size}") int batchSize,
+                        @Value("${app.users.purge.max-batches}") int maxBatches,
+                        @Value("${app.users.purge.pause-ms}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.retentionHours = retentionHours;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMs = pauseMs;
+        Gauge.builder("users.purge.backlog", backlog, AtomicLong::get)
+                .description("Soft-deleted users waiting to be purged")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("users.purge.deleted")
+                .description("Soft-deleted users physically removed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("users.purge.batch")
+                .description("Time taken by one purge batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Purges expired soft-deleted users in bounded batches.
+     */
+    @Scheduled(cron = "${app.users.purge.cron}")
+    public void purge() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours));
+        long purged = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                Timer.Sample sample = Timer.start();
+                int count = purgeBatch(cutoff);
+                sample.stop(batchTimer);
+                purged += count;
+                deletedCounter.increment(count);
+                if (count < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("User purge failed after removing {} users: {}", purged, e.getMessage(), e);
+        }
+        if (purged > 0) {
+            log.info("Purged {} soft-deleted users", purged);
+        }
+        refreshBacklog();
+    }
+
+    private int purgeBatch(Timestamp cutoff) {
+        Integer count = batchTransaction.execute(status -> {
+            jdbcTemplate.execute(UserRepository.NO_CHANGE_NOTIFICATIONS);
+            return jdbcTemplate.update(PURGE_BATCH_SQL, cutoff, batchSize);
+        });
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Refreshes the backlog gauge with an index-only count over idx_users_purge.
+     */
+    @Scheduled(fixedDelayString = "${app.users.purge.backlog-refresh-ms}")
+    public void refreshBacklog() {
+        try {
+            Long count = jdbcTemplate.queryForObject(BACKLOG_SQL, Long.class);
+            backlog.set(count == null ? 0 : count);
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the purge backlog: {}", e.getMessage());
+        }
+    }
+}
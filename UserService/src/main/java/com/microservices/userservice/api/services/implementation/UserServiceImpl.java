@@ -1,89 +1,243 @@
 package com.microservices.userservice.api.services.implementation;
 
+import com.microservices.userservice.api.config.CacheConfig;
+import com.microservices.userservice.api.config.ReplicaRoutingDataSource;
+import com.microservices.userservice.api.events.AuditEvent;
 import com.microservices.userservice.api.exceptions.*;
+import com.microservices.userservice.api.models.dto.SliceDTO;
 import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserPatchDTO;
 import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.models.entities.UserWithProfiles;
 import com.microservices.userservice.api.repositories.UserRepository;
 import com.microservices.userservice.api.responses.ApiResponse;
+import com.microservices.userservice.api.services.AuditService;
 import com.microservices.userservice.api.services.UserService;
+import com.microservices.userservice.api.services.UserSuggestionService;
+import com.microservices.userservice.api.util.TotalMode;
+import com.microservices.userservice.api.util.UserCursor;
+import com.microservices.userservice.api.util.UserMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
-import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private MessageSource messageSource;
+    private final UserSuggestionService userSuggestionService;
+    private final UserValidator userValidator;
+    private final UserCountEstimator userCountEstimator;
+    private final UserPartialUpdater userPartialUpdater;
+    private final Cache usersCache;
+    private final LocalizedMessages localizedMessages;
+    private final AuditService auditService;
 
-    private static final String EMAIL_REQUIRED_MSG = "email.required";
-    private static final String INVALID_EMAIL_MSG = "invalid.email";
-    private static final String PASSWORD_REQUIRED_MSG = "password.required";
-    private static final String PASSWORD_INVALID_MSG = "password.invalid";
-    private static final String RESOURCE_NOT_FOUND_MSG = "resource.not.found";
-    private static final String EMAIL_EXISTS_MSG = "email.exists";
+    private static final String USER_NOT_FOUND_MSG = "user.not.found";
+    private static final String USER_DELETED_MSG = "user.deleted";
+    private static final String INVALID_UUID_MSG = "invalid.uuid";
+    private static final String PRECONDITION_FAILED_MSG = "precondition.failed";
 
-    public UserServiceImpl(UserRepository userRepository, MessageSource messageSource) {
+    public UserServiceImpl(UserRepository userRepository, UserSuggestionService userSuggestionService,
+                           UserValidator userValidator, UserCountEstimator userCountEstimator,
+                           UserPartialUpdater userPartialUpdater, CacheManager cacheManager, LocalizedMessages localizedMessages,
+                           AuditService auditService) {
         this.userRepository = userRepository;
-        this.messageSource = messageSource;
+        this.userSuggestionService = userSuggestionService;
+        this.userValidator = userValidator;
+        this.userCountEstimator = userCountEstimator;
+        this.userPartialUpdater = userPartialUpdater;
+        this.usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        this.localizedMessages = localizedMessages;
+        this.auditService = auditService;
     }
 
     /**
      * Gets all users with pagination and optional filtering.
+     * When a search term is given, matches are ordered by relevance.
      *
      * @param pageable the pagination and sorting information.
      * @param search   the filter criteria (optional).
      * @return a page of UserDTO.
      */
+    @Transactional(readOnly = true)
     public Page<UserDTO> getAllUsers(Pageable pageable, String search) {
         Page<UserEntity> users;
         if (search != null && !search.isEmpty()) {
-            users = userRepository.findByEmailContainingIgnoreCaseOrFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(search, search, search, pageable);
+            String term = search.toLowerCase(Locale.ROOT);
+            users = userRepository.searchByRelevance(term, toContainsPattern(term), pageable);
         } else {
             users = userRepository.findAll(pageable);
         }
-        return users.map(this::convertToDTO);
+        return users.map(UserMapper::toDTO);
+    }
+
+    /**
+     * Gets a slice of users using keyset pagination over (creationDate, id).
+     * No count query is issued and the cost is independent of the cursor position.
+     *
+     * @param cursor the position after which to start, or null for the first slice.
+     * @param size   the maximum number of users to return.
+     * @return a slice of UserDTO.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserDTO> getUsersAfter(UserCursor cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<UserEntity> users = cursor == null
+                ? userRepository.findFirstKeysetSlice(pageable)
+                : userRepository.findKeysetSliceAfter(cursor.creationDate(), cursor.id(), pageable);
+        return users.map(UserMapper::toDTO);
+    }
+
+    /**
+     * Gets a slice of users with optional filtering, without the exact count query that
+     * {@link #getAllUsers(Pageable, String)} pays on every call.
+     *
+     * @param pageable  the pagination information.
+     * @param search    the filter criteria (optional).
+     * @param totalMode whether to include no total, a planner estimate, or an exact count.
+     * @return a slice of UserDTO with the requested total.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDTO<UserDTO> getUserSlice(Pageable pageable, String search, TotalMode totalMode) {
+        boolean searching = search != null && !search.isEmpty();
+        String term = searching ? search.toLowerCase(Locale.ROOT) : null;
+        String pattern = searching ? toContainsPattern(term) : null;
+        Slice<UserEntity> users = searching
+                ? userRepository.searchSliceByRelevance(term, pattern, pageable)
+                : userRepository.findAllBy(pageable);
+
+        Long totalElements = null;
+        Boolean totalExact = null;
+        if (totalMode == TotalMode.EXACT) {
+            totalElements = searching ? userRepository.countByRelevance(pattern) : userRepository.count();
+            totalExact = true;
+        } else if (totalMode == TotalMode.ESTIMATED) {
+            totalElements = searching ? userCountEstimator.estimateSearch(pattern) : userCountEstimator.estimateAll();
+            totalExact = false;
+        }
+        return new SliceDTO<>(users.map(UserMapper::toDTO).getContent(), pageable.getPageNumber(), pageable.getPageSize(),
+                users.hasNext(), totalElements, totalExact);
     }
 
     /**
      * Retrieves a user by its ID.
+     * Results are served from the users cache when present; writes through this service evict them.
+     * Misses are read from the primary, so a lagging replica cannot put a user back into the cache after
+     * its change notification evicted it.
      *
      * @param id The ID of the user to retrieve.
      * @return A UserDTO object representing the user.
      * @throws ResourceNotFoundException If the user with the given ID is not found.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_CACHE, key = "#id")
+    @Transactional(readOnly = true)
     public UserDTO getUserById(UUID id) {
-        return userRepository.findById(id)
-                .map(this::convertToDTO)
-                .orElseThrow(() -> {
-                    String details = "The requested User with ID: " + id + " was not found.";
-                    log.warn(details);
-                    return new ResourceNotFoundException(details, id);
-                });
+        return ReplicaRoutingDataSource.readFromPrimary(() -> userRepository.findById(id))
+                .map(UserMapper::toDTO)
+                .orElseThrow(() -> createResourceNotFoundException(id));
+    }
+
+    /**
+     * Retrieves a user with its administrator and manager profiles embedded, LEFT JOINing both
+     * profile tables in a single query instead of one round trip per resource.
+     * Not cached, since profile changes do not evict the users cache.
+     *
+     * @param id The ID of the user to retrieve.
+     * @return A UserDTO object with its profiles.
+     * @throws ResourceNotFoundException If the user with the given ID is not found.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserDTO getUserWithProfiles(UUID id) {
+        return userRepository.findWithProfilesById(id)
+                .map(UserMapper::toDTO)
+                .orElseThrow(() -> createResourceNotFoundException(id));
+    }
+
+    /**
+     * Embeds the profiles of a page of users with one set-based query for the whole page.
+     * The given DTOs may be shared with the users cache, so they are left untouched and fresh
+     * copies are returned in the same order. Users deleted in the meantime are dropped.
+     *
+     * @param users the users to expand.
+     * @return the users with their profiles.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDTO> withProfiles(List<UserDTO> users) {
+        if (users.isEmpty()) {
+            return users;
+        }
+        Map<UUID, UserWithProfiles> loaded = userRepository.findWithProfilesByIdIn(users.stream().map(UserDTO::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(row -> row.user().getId(), Function.identity()));
+        return users.stream()
+                .map(user -> loaded.get(user.getId()))
+                .filter(Objects::nonNull)
+                .map(UserMapper::toDTO)
+                .toList();
+    }
+
+    /**
+     * Reads the version of a user, from the users cache when present and otherwise with a
+     * single-column query, so conditional requests never load or serialize the full user.
+     * The query goes to the primary, like the cache fills, so the version never lags the cached user.
+     *
+     * @param id The ID of the user.
+     * @return the current version, or empty if the user does not exist.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getUserVersion(UUID id) {
+        UserDTO cachedUser = usersCache.get(id, UserDTO.class);
+        if (cachedUser != null) {
+            return Optional.of(cachedUser.getVersion());
+        }
+        return ReplicaRoutingDataSource.readFromPrimary(() -> userRepository.findVersionById(id));
     }
 
     /**
      * Creates a new user.
+     * Email uniqueness is enforced by the users email constraint rather than a pre-check, so concurrent
+     * creates with the same email cannot both succeed; the losing insert surfaces as a
+     * DataIntegrityViolationException that GlobalExceptionHandler answers with 409.
      *
      * @param userDTO The UserDTO object containing the user data.
      * @return A UserDTO object representing the newly created user.
      */
     @Override
     public UserDTO createUser(UserDTO userDTO) {
-        validateUserDTO(userDTO);
-        checkEmailExists(userDTO.getEmail());
-        UserEntity userEntity = convertToEntity(userDTO);
+        userValidator.validateNewUser(userDTO);
+        UserEntity userEntity = UserMapper.toEntity(userDTO);
         UserEntity savedUserEntity = userRepository.save(userEntity);
-        return convertToDTO(savedUserEntity);
+        UserDTO savedUserDTO = UserMapper.toDTO(savedUserEntity);
+        userSuggestionService.index(savedUserDTO);
+        auditService.record(AuditEvent.CREATE, AuditEvent.USER, savedUserDTO.getId());
+        return savedUserDTO;
     }
 
     /**
@@ -93,120 +247,108 @@ public class UserServiceImpl implements UserService {
      * @param userDTO The UserDTO object containing the updated user data.
      * @return A UserDTO object representing the updated user.
      * @throws ResourceNotFoundException If the user with the given ID is not found.
+     * @throws org.springframework.dao.DataIntegrityViolationException If the new email belongs to another user.
      */
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#id")
+    @Transactional
     public UserDTO updateUser(UUID id, UserDTO userDTO) throws ResourceNotFoundException {
         return userRepository.findById(id)
                 .map(existingUserEntity -> {
-                    if (!existingUserEntity.getEmail().equals(userDTO.getEmail())) {
-                        checkEmailExists(userDTO.getEmail());
-                    }
-                    validateUserDTO(userDTO);
+                    userValidator.validate(userDTO);
                     updateUserEntity(existingUserEntity, userDTO);
                     UserEntity updatedUserEntity = userRepository.save(existingUserEntity);
-                    return convertToDTO(updatedUserEntity);
+                    UserDTO updatedUserDTO = UserMapper.toDTO(updatedUserEntity);
+                    userSuggestionService.index(updatedUserDTO);
+                    auditService.record(AuditEvent.UPDATE, AuditEvent.USER, id);
+                    return updatedUserDTO;
                 })
-                .orElseThrow(() -> createResourceNotFoundException("User", id));
+                .orElseThrow(() -> createResourceNotFoundException(id));
     }
 
     /**
-     * Deletes a user.
+     * Partially updates a user with a single UPDATE ... RETURNING statement.
+     * Only the fields present in the patch are written. When an expected version is given, the update
+     * only applies if nobody else changed the user since the client read it.
+     *
+     * @param id              The ID of the user to update.
+     * @param patchDTO        The fields to change.
+     * @param expectedVersion The version from the client's If-Match header, or null to update unconditionally.
+     * @return A UserDTO object representing the updated user.
+     * @throws ResourceNotFoundException   If the user with the given ID is not found.
+     * @throws PreconditionFailedException If the user was modified since the expected version.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#id")
+    @Transactional
+    public UserDTO patchUser(UUID id, UserPatchDTO patchDTO, Long expectedVersion) {
+        // Every supplied field is checked before the UPDATE is built, so a null or blank required field is a 400,
+        // not a NOT NULL violation
+        if (patchDTO.isFirstNameSet()) {
+            userValidator.validateFirstName(patchDTO.getFirstName());
+        }
+        if (patchDTO.isLastNameSet()) {
+            userValidator.validateLastName(patchDTO.getLastName());
+        }
+        if (patchDTO.isEmailSet()) {
+            userValidator.validateEmail(patchDTO.getEmail());
+        }
+        if (patchDTO.isPasswordSet()) {
+            userValidator.validatePassword(patchDTO.getPassword());
+        }
+        if (patchDTO.isEmpty()) {
+            UserDTO currentUser = userRepository.findById(id)
+                    .map(UserMapper::toDTO)
+                    .orElseThrow(() -> createResourceNotFoundException(id));
+            if (expectedVersion != null && expectedVersion != currentUser.getVersion()) {
+                throw createPreconditionFailedException(id);
+            }
+            return currentUser;
+        }
+
+        UserDTO patchedUserDTO = userPartialUpdater.patch(id, patchDTO, expectedVersion).orElseThrow(() -> userRepository.existsById(id)
+                ? createPreconditionFailedException(id)
+                : createResourceNotFoundException(id));
+        userSuggestionService.index(patchedUserDTO);
+        auditService.record(AuditEvent.UPDATE, AuditEvent.USER, id);
+        return patchedUserDTO;
+    }
+
+    /**
+     * Soft deletes a user with a single UPDATE. The user disappears from every read immediately,
+     * while the row and its profiles are removed later, in bounded batches, by {@link UserPurgeJob}.
      *
      * @param id The ID of the user to delete.
      * @throws ResourceNotFoundException If the user with the given ID is not found.
      */
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#id")
+    @Transactional
     public ApiResponse deleteUser(UUID id) {
         try {
             if (id == null) {
                 throw new IllegalArgumentException("User ID cannot be null");
             }
 
-            Optional<UserEntity> optionalUserEntity = userRepository.findById(id);
-            if (optionalUserEntity.isPresent()) {
-                UserEntity userEntity = optionalUserEntity.get();
-                userRepository.delete(userEntity);
-                String message = messageSource.getMessage("user.deleted", new Object[]{id}, LocaleContextHolder.getLocale());
+            if (userRepository.softDeleteById(id, LocalDateTime.now()) > 0) {
+                userSuggestionService.remove(id);
+                auditService.record(AuditEvent.DELETE, AuditEvent.USER, id);
+                String message = localizedMessages.format(USER_DELETED_MSG, id);
                 log.info(message);
                 return new ApiResponse(HttpStatus.OK, message, null);
             } else {
-                String message = messageSource.getMessage("user.not.found", new Object[]{id}, LocaleContextHolder.getLocale());
-                log.warn(message);
-                throw new ResourceNotFoundException(message, id);
+                throw createResourceNotFoundException(id);
             }
         } catch (IllegalArgumentException e) {
-            String message = messageSource.getMessage("invalid.uuid", new Object[]{id}, LocaleContextHolder.getLocale());
+            String message = localizedMessages.get(INVALID_UUID_MSG);
             log.warn(message);
             throw new IllegalArgumentException(message);
         }
     }
-    /**
-     * Converts a User entity to a UserDTO object.
-     *
-     * @param userEntity The User entity to convert.
-     * @return A UserDTO object representing the User entity.
-     */
-    private UserDTO convertToDTO(UserEntity userEntity) {
-        UserDTO userDTO = new UserDTO();
-        userDTO.setId(userEntity.getId());
-        userDTO.setFirstName(userEntity.getFirstName());
-        userDTO.setLastName(userEntity.getLastName());
-        userDTO.setEmail(userEntity.getEmail());
-        userDTO.setPassword(userEntity.getPassword());
-        userDTO.setCreationDate(userEntity.getCreationDate());
-        userDTO.setLastUpdate(userEntity.getLastUpdate());
-        userDTO.setSoftDelete(userEntity.isSoftDelete());
-        userDTO.setRole(userEntity.getRole());
-        return userDTO;
-    }
 
-    /**
-     * Converts a UserDTO object to a User entity.
-     *
-     * @param userDTO The UserDTO object to convert.
-     * @return A User entity representing the UserDTO object.
-     */
-    private UserEntity convertToEntity(UserDTO userDTO) {
-        UserEntity userEntity = new UserEntity();
-        userEntity.setId(userDTO.getId());
-        userEntity.setFirstName(userDTO.getFirstName());
-        userEntity.setLastName(userDTO.getLastName());
-        userEntity.setEmail(userDTO.getEmail());
-        userEntity.setPassword(userDTO.getPassword());
-        userEntity.setCreationDate(userDTO.getCreationDate());
-        userEntity.setLastUpdate(userDTO.getLastUpdate());
-        userEntity.setSoftDelete(userDTO.isSoftDelete());
-        userEntity.setRole(userDTO.getRole());
-        return userEntity;
-    }
-
-    private void validateUserDTO(UserDTO userDTO) {
-        validateEmail(userDTO.getEmail());
-        validatePassword(userDTO.getPassword());
-    }
-
-    private void validateEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            throw createEmptyEmailException(email);
-        }
-        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-            throw createInvalidEmailException(email);
-        }
-    }
-
-    private void validatePassword(String password) {
-        if (password == null || password.trim().isEmpty()) {
-            throw createEmptyPasswordException();
-        }
-        if (password.length() < 8 || password.length() > 20) {
-            throw createInvalidPasswordException(password);
-        }
-    }
-
-    private void checkEmailExists(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw createDuplicateEmailException(email);
-        }
+    private String toContainsPattern(String term) {
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
     }
 
     private void updateUserEntity(UserEntity userEntity, UserDTO userDTO) {
@@ -216,40 +358,13 @@ public class UserServiceImpl implements UserService {
         userEntity.setPassword(userDTO.getPassword());
     }
 
-    private EmptyEmailException createEmptyEmailException(String email) {
-        String message = messageSource.getMessage(EMAIL_REQUIRED_MSG, null, LocaleContextHolder.getLocale());
-        log.warn("The email field is required.");
-        return new EmptyEmailException(message, email);
-    }
-
-    private InvalidEmailException createInvalidEmailException(String email) {
-        String message = messageSource.getMessage(INVALID_EMAIL_MSG, new Object[]{email}, LocaleContextHolder.getLocale());
-        log.warn("The provided email address '{}' is invalid.", email);
-        return new InvalidEmailException(message, email);
-    }
-
-    private EmptyPasswordException createEmptyPasswordException() {
-        String message = messageSource.getMessage(PASSWORD_REQUIRED_MSG, null, LocaleContextHolder.getLocale());
-        log.warn("The password field is required.");
-        return new EmptyPasswordException(message);
-    }
-
-    private InvalidPasswordException createInvalidPasswordException(String password) {
-        String message = messageSource.getMessage(PASSWORD_INVALID_MSG, new Object[]{password.length(), 8, 20}, LocaleContextHolder.getLocale());
-        log.warn("The provided password is invalid. Password must be between 8 and 20 characters long.");
-        return new InvalidPasswordException(message, password, password.length());
-    }
-
-    private DuplicateEmailException createDuplicateEmailException(String email) {
-        String message = messageSource.getMessage(EMAIL_EXISTS_MSG, new Object[]{email}, LocaleContextHolder.getLocale());
-        log.warn("A user with the email '{}' already exists.", email);
-        return new DuplicateEmailException(message, email);
+    // Client errors are logged once, rate-limited, by GlobalExceptionHandler
+    private PreconditionFailedException createPreconditionFailedException(UUID id) {
+        return new PreconditionFailedException(localizedMessages.format(PRECONDITION_FAILED_MSG, id), id);
     }
 
-    private ResourceNotFoundException createResourceNotFoundException(String resourceName, UUID id) {
-        String message = messageSource.getMessage(RESOURCE_NOT_FOUND_MSG, new Object[]{resourceName, id}, LocaleContextHolder.getLocale());
-        log.warn("The requested {} with ID: {} was not found.", resourceName, id);
-        return new ResourceNotFoundException(message, id);
+    private ResourceNotFoundException createResourceNotFoundException(UUID id) {
+        return new ResourceNotFoundException(localizedMessages.format(USER_NOT_FOUND_MSG, id), id);
     }
 
 }
\ No newline at end of file
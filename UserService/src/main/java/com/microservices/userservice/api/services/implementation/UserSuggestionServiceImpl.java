@@ -0,0 +1,298 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.events.UserChangeEvent;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.dto.UserSuggestionDTO;
+import com.microservices.userservice.api.repositories.UserRepository;
+import com.microservices.userservice.api.services.UserSuggestionService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-process typeahead index over lower-cased user emails, first names and last names.
+ * <p>
+ * Terms are kept in a sorted concurrent map so a prefix lookup is a single range scan,
+ * and reads never touch the database. The index is loaded once at startup and kept
+ * up to date by {@link UserServiceImpl} on every create, update and delete, and by
+ * {@link UserChangeEvent}s for writes made by other instances. Changes made inside a
+ * transaction are applied once it commits, so a rolled-back write never shows up in suggestions.
+ * <p>
+ * A rebuild loads a new index while the current one keeps serving, then swaps it in. Changes
+ * applied during the load are recorded and replayed onto the new index before the swap.
+ * Rebuilds requested by change events run on their own thread, so the notification listener
+ * keeps delivering evictions meanwhile, and requests arriving during a rebuild share one more pass.
+ */
+@Service
+@Slf4j
+public class UserSuggestionServiceImpl implements UserSuggestionService {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Index index = new Index();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ExecutorService rebuildExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("suggestion-index-rebuild-"));
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    // Changes applied while a rebuild is loading, guarded by writeLock; null when no rebuild is running
+    private List<Consumer<Index>> changesDuringRebuild;
+
+    public UserSuggestionServiceImpl(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Loads every user into a new index once the application is ready to serve traffic, and again on
+     * every rebuild, then swaps it in. Suggestions are served from the previous index until then.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            Index rebuilt = new Index();
+            writeLock.lock();
+            try {
+                changesDuringRebuild = new ArrayList<>();
+            } finally {
+                writeLock.unlock();
+            }
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<UserSuggestionDTO> users = userRepository.streamAllSuggestions()) {
+                        users.forEach(rebuilt::put);
+                    }
+                });
+            } catch (RuntimeException e) {
+                writeLock.lock();
+                try {
+                    changesDuringRebuild = null;
+                } finally {
+                    writeLock.unlock();
+                }
+                throw e;
+            }
+            writeLock.lock();
+            try {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                changesDuringRebuild = null;
+                index = rebuilt;
+            } finally {
+                writeLock.unlock();
+            }
+            log.info("Loaded {} users into the suggestion index in {} ms", rebuilt.suggestions.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a change committed by any instance. A resync, or a bulk write to users, schedules a rebuild of the whole index.
+     *
+     * @param event the committed change.
+     */
+    @EventListener
+    public void onUserChange(UserChangeEvent event) {
+        if (event.isResync() || event.isBulkUserChange()) {
+            requestRebuild();
+        } else if (event.isUserRemoval()) {
+            unindex(event.id());
+        } else if (event.isUserChange()) {
+            put(new UserSuggestionDTO(event.id(), event.email(), event.firstName(), event.lastName()));
+        }
+    }
+
+    // Runs on the notification listener thread, so it only queues: at most one rebuild waits behind the running one
+    private void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            try {
+                rebuildExecutor.execute(this::rebuild);
+            } catch (RejectedExecutionException e) {
+                rebuildQueued.set(false);
+            }
+        }
+    }
+
+    private void rebuild() {
+        // Cleared before loading: a request arriving from now on may not be covered by this load
+        rebuildQueued.set(false);
+        try {
+            loadIndex();
+        } catch (RuntimeException e) {
+            log.error("Could not rebuild the suggestion index: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} users whose email, first name or last name starts with the prefix.
+     *
+     * @param prefix the case-insensitive prefix typed by the client.
+     * @param limit  the maximum number of suggestions to return.
+     * @return the matching suggestions, ordered by matching term.
+     */
+    @Override
+    public List<UserSuggestionDTO> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit < 1) {
+            return Collections.emptyList();
+        }
+        Index current = index;
+        String normalized = normalize(prefix);
+        int max = Math.min(limit, MAX_LIMIT);
+        Set<UUID> matches = new LinkedHashSet<>();
+        for (Set<UUID> ids : current.terms.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            for (UUID id : ids) {
+                matches.add(id);
+                if (matches.size() == max) {
+                    return current.toSuggestions(matches);
+                }
+            }
+        }
+        return current.toSuggestions(matches);
+    }
+
+    @Override
+    public void index(UserDTO userDTO) {
+        UserSuggestionDTO suggestion = new UserSuggestionDTO(userDTO.getId(), userDTO.getEmail(),
+                userDTO.getFirstName(), userDTO.getLastName());
+        afterCommit(() -> put(suggestion));
+    }
+
+    @Override
+    public void remove(UUID id) {
+        afterCommit(() -> unindex(id));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private void put(UserSuggestionDTO suggestion) {
+        apply(current -> current.put(suggestion));
+    }
+
+    private void unindex(UUID id) {
+        apply(current -> current.remove(id));
+    }
+
+    private void apply(Consumer<Index> change) {
+        writeLock.lock();
+        try {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The terms and suggestions of one generation of the index. Written under the write lock,
+     * or by the rebuild alone before it is published.
+     */
+    private static final class Index {
+
+        private final NavigableMap<String, Set<UUID>> terms = new ConcurrentSkipListMap<>();
+        private final Map<UUID, UserSuggestionDTO> suggestions = new ConcurrentHashMap<>();
+
+        private void put(UserSuggestionDTO suggestion) {
+            UserSuggestionDTO previous = suggestions.put(suggestion.getId(), suggestion);
+            if (previous != null) {
+                unlinkTerms(previous);
+            }
+            for (String term : termsOf(suggestion)) {
+                terms.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(suggestion.getId());
+            }
+        }
+
+        private void remove(UUID id) {
+            UserSuggestionDTO previous = suggestions.remove(id);
+            if (previous != null) {
+                unlinkTerms(previous);
+            }
+        }
+
+        private void unlinkTerms(UserSuggestionDTO suggestion) {
+            for (String term : termsOf(suggestion)) {
+                Set<UUID> ids = terms.get(term);
+                if (ids != null) {
+                    ids.remove(suggestion.getId());
+                    if (ids.isEmpty()) {
+                        terms.remove(term);
+                    }
+                }
+            }
+        }
+
+        private static List<String> termsOf(UserSuggestionDTO suggestion) {
+            List<String> result = new ArrayList<>(3);
+            for (String value : new String[]{suggestion.getEmail(), suggestion.getFirstName(), suggestion.getLastName()}) {
+                if (value != null && !value.isBlank()) {
+                    result.add(normalize(value));
+                }
+            }
+            return result;
+        }
+
+        private List<UserSuggestionDTO> toSuggestions(Set<UUID> ids) {
+            List<UserSuggestionDTO> result = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                UserSuggestionDTO suggestion = suggestions.get(id);
+                if (suggestion != null) {
+                    result.add(suggestion);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.exceptions.EmptyEmailException;
+import com.microservices.userservice.api.exceptions.EmptyPasswordException;
+import com.microservices.userservice.api.exceptions.InvalidEmailException;
+import com.microservices.userservice.api.exceptions.InvalidParameterException;
+import com.microservices.userservice.api.exceptions.InvalidPasswordException;
+import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Validates user input shared by the single-user, batch and import write paths.
+ * <p>
+ * Rejections are frequent under bot traffic, so this class neither logs nor captures stack traces:
+ * the email pattern is compiled once, messages without arguments come from the
+ * {@link LocalizedMessages} cache and the exceptions are stackless. Whoever reports the
+ * rejection (GlobalExceptionHandler, batch results, import jobs) owns the logging.
+ */
+@Component
+public class UserValidator {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_PASSWORD_LENGTH = 20;
+    // Column widths of users.first_name, users.last_name and users.email (see V1 migration)
+    private static final int MAX_NAME_LENGTH = 50;
+    private static final int MAX_EMAIL_LENGTH = 255;
+    // Column widths of the profile tables (see V1 migration)
+    private static final int MAX_DEPARTMENT_LENGTH = 50;
+    private static final int MAX_PERMISSIONS_LEVEL_LENGTH = 20;
+    private static final int MAX_AREA_OF_RESPONSIBILITY_LENGTH = 255;
+    private static final List<String> ROLES = List.of("administrator", "manager");
+
+    private static final String EMAIL_REQUIRED_MSG = "email.required";
+    private static final String INVALID_EMAIL_MSG = "invalid.email";
+    private static final String PASSWORD_REQUIRED_MSG = "password.required";
+    private static final String PASSWORD_INVALID_MSG = "password.invalid";
+    private static final String INVALID_PARAMETER_MSG = "invalid.parameter";
+
+    private final LocalizedMessages localizedMessages;
+
+    public UserValidator(LocalizedMessages localizedMessages) {
+        this.localizedMessages = localizedMessages;
+    }
+
+    /**
+     * Validates every column a full update writes, so a user that passes is accepted by the users table.
+     *
+     * @param userDTO the user to write.
+     */
+    public void validate(UserDTO userDTO) {
+        validateEmail(userDTO.getEmail());
+        validatePassword(userDTO.getPassword());
+        validateFirstName(userDTO.getFirstName());
+        validateLastName(userDTO.getLastName());
+    }
+
+    /**
+     * Validates a user to be created: every column {@link #validate(UserDTO)} checks, the role and
+     * the columns of any embedded profile.
+     *
+     * @param userDTO the user to create.
+     */
+    public void validateNewUser(UserDTO userDTO) {
+        validate(userDTO);
+        validateRole(userDTO.getRole());
+        AdministratorProfileDTO administratorProfile = userDTO.getAdministratorProfile();
+        if (administratorProfile != null) {
+            validateLength("department", administratorProfile.getDepartment(), MAX_DEPARTMENT_LENGTH);
+            validateLength("permissionsLevel", administratorProfile.getPermissionsLevel(), MAX_PERMISSIONS_LEVEL_LENGTH);
+        }
+        ManagerProfileDTO managerProfile = userDTO.getManagerProfile();
+        if (managerProfile != null) {
+            validateLength("areaOfResponsibility", managerProfile.getAreaOfResponsibility(), MAX_AREA_OF_RESPONSIBILITY_LENGTH);
+        }
+    }
+
+    public void validateEmail(String email) {
+        if (email == null || email.isBlank()) {
+            throw new EmptyEmailException(localizedMessages.get(EMAIL_REQUIRED_MSG), email);
+        }
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
+            throw new InvalidEmailException(localizedMessages.format(INVALID_EMAIL_MSG, email), email);
+        }
+        if (email.length() > MAX_EMAIL_LENGTH) {
+            throw invalidParameter("email", email);
+        }
+    }
+
+    /**
+     * Rejects a first name the users table would refuse: missing, blank or too long.
+     *
+     * @param firstName the first name to write.
+     */
+    public void validateFirstName(String firstName) {
+        if (firstName == null || firstName.isBlank() || firstName.length() > MAX_NAME_LENGTH) {
+            throw invalidParameter("firstName", firstName);
+        }
+    }
+
+    /**
+     * Rejects a last name longer than its column. Null clears the last name and is allowed.
+     *
+     * @param lastName the last name to write, or null.
+     */
+    public void validateLastName(String lastName) {
+        if (lastName != null && lastName.length() > MAX_NAME_LENGTH) {
+            throw invalidParameter("lastName", lastName);
+        }
+    }
+
+    /**
+     * Rejects a role other than administrator or manager, in any case.
+     *
+     * @param role the role of the user to create.
+     */
+    public void validateRole(String role) {
+        if (role == null || !ROLES.contains(role.toLowerCase(Locale.ROOT))) {
+            throw invalidParameter("role", role);
+        }
+    }
+
+    public void validatePassword(String password) {
+        if (password == null || password.isBlank()) {
+            throw new EmptyPasswordException(localizedMessages.get(PASSWORD_REQUIRED_MSG));
+        }
+        if (password.length() < MIN_PASSWORD_LENGTH || password.length() > MAX_PASSWORD_LENGTH) {
+            String message = localizedMessages.format(PASSWORD_INVALID_MSG, password.length(), MIN_PASSWORD_LENGTH, MAX_PASSWORD_LENGTH);
+            throw new InvalidPasswordException(message, password, password.length());
+        }
+    }
+
+    private void validateLength(String parameter, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            throw invalidParameter(parameter, value);
+        }
+    }
+
+    private InvalidParameterException invalidParameter(String parameter, String value) {
+        return new InvalidParameterException(localizedMessages.format(INVALID_PARAMETER_MSG, parameter, value), parameter, value);
+    }
+}
@@ -9,10 +9,28 @@ public final class ApiConstants {
     public static final String API_BASE_URL = "/api";
     public static final String API_VERSION = "v1";
 
+    // Routes for UserController and UserBatchController
+    public static final String USERS_BASE_URL = API_BASE_URL + "/" + API_VERSION + "/users";
+    public static final String USERS_CURSOR_URL = USERS_BASE_URL + "/cursor";
+    public static final String USERS_BATCH_URL = USERS_BASE_URL + ":batch";
+    public static final String USERS_LOOKUP_URL = USERS_BASE_URL + ":lookup";
+
+    // Routes for UserImportController
+    public static final String USER_IMPORTS_BASE_URL = USERS_BASE_URL + "/imports";
+
+    // Routes for UserChangeController
+    public static final String USER_CHANGES_BASE_URL = USERS_BASE_URL + "/changes";
+
     // Routes for AdministratorProfileController
     public static final String ADMIN_PROFILES_BASE_URL = API_BASE_URL + "/" + API_VERSION + "/admin-profiles";
 
     // Routes for ManagerProfileController
     public static final String MANAGER_PROFILES_BASE_URL = API_BASE_URL + "/" + API_VERSION + "/manager-profiles";
 
+    // Routes for ReactiveUserController and ReactiveProfileController
+    public static final String REACTIVE_BASE_URL = API_BASE_URL + "/" + API_VERSION + "/reactive";
+    public static final String REACTIVE_USERS_BASE_URL = REACTIVE_BASE_URL + "/users";
+    public static final String REACTIVE_ADMIN_PROFILES_BASE_URL = REACTIVE_BASE_URL + "/admin-profiles";
+    public static final String REACTIVE_MANAGER_PROFILES_BASE_URL = REACTIVE_BASE_URL + "/manager-profiles";
+
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.microservices.userservice.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CsvUtils {
+
+    private CsvUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Escapes a value for use as a single RFC 4180 CSV field.
+     * Null values become empty fields; values containing a comma, quote or line break are quoted.
+     *
+     * @param value the raw value.
+     * @return the escaped field.
+     */
+    public static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Splits one RFC 4180 CSV record into its fields.
+     * Quoted fields may contain commas and escaped quotes but not line breaks.
+     *
+     * @param line the record, without its line terminator.
+     * @return the unescaped fields.
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.exceptions.InvalidDataFormatException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+public enum DataFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    DataFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves a case-insensitive request parameter such as {@code csv} or {@code ndjson}.
+     *
+     * @param value the request parameter value.
+     * @return the matching format.
+     * @throws InvalidDataFormatException if the value does not name a supported format.
+     */
+    public static DataFormat fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataFormatException("Unsupported data format: " + value, value);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.microservices.userservice.api.util;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Derives strong entity tags from the id and version or last modification time of a resource, so a
+ * conditional request can be answered without loading or serializing the resource itself.
+ */
+public final class ETags {
+
+    /**
+     * Returned by {@link #expectedVersion(String, UUID)} when the client sent entity tags that cannot match.
+     * Stored versions are never negative, so a conditional update on this version matches no row.
+     */
+    public static final long NO_MATCHING_VERSION = -1L;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String VERSION_SEPARATOR = "-v";
+
+    private ETags() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Builds the ETag of a single resource.
+     *
+     * @param id         the resource ID.
+     * @param lastUpdate the last modification time, or null if never recorded.
+     * @return a quoted strong ETag.
+     */
+    public static String of(UUID id, LocalDateTime lastUpdate) {
+        return "\"" + id + "-" + Long.toHexString(toEpochMicros(lastUpdate)) + "\"";
+    }
+
+    /**
+     * Builds the ETag of a versioned resource.
+     *
+     * @param id      the resource ID.
+     * @param version the optimistic locking version.
+     * @return a quoted strong ETag.
+     */
+    public static String of(UUID id, long version) {
+        return "\"" + id + VERSION_SEPARATOR + version + "\"";
+    }
+
+    /**
+     * Extracts the version a client expects from an If-Match header holding ETags built by {@link #of(UUID, long)}.
+     * If-Match uses strong comparison, so weak tags never match.
+     *
+     * @param ifMatch the If-Match header value, or null if absent.
+     * @param id      the ID of the resource being modified.
+     * @return null if any version is acceptable, the expected version, or {@link #NO_MATCHING_VERSION}.
+     */
+    public static Long expectedVersion(String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.isEmpty()) {
+            return null;
+        }
+        String prefix = "\"" + id + VERSION_SEPARATOR;
+        for (String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return null;
+            }
+            if (trimmed.startsWith(prefix) && trimmed.endsWith("\"") && trimmed.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(trimmed.substring(prefix.length(), trimmed.length() - 1));
+                } catch (NumberFormatException e) {
+                    // Not one of our tags, keep looking
+                }
+            }
+        }
+        return NO_MATCHING_VERSION;
+    }
+
+    /**
+     * Builds the ETag of a listing as a digest of its metadata and every element's id and last modification time.
+     * Any insert, update or delete that changes what the listing returns changes the digest.
+     *
+     * @param total      the total reported by the listing, or any other value that changes the response
+     *                   besides its elements, such as whether a next page exists.
+     * @param items      the elements on the page, in response order.
+     * @param id         extracts the ID of an element.
+     * @param lastUpdate extracts the last modification time of an element.
+     * @return a quoted strong ETag.
+     */
+    public static <T> String ofList(long total, Collection<T> items, Function<T, UUID> id, Function<T, LocalDateTime> lastUpdate) {
+        return ofStates(total, items, id, item -> new long[]{toEpochMicros(lastUpdate.apply(item))});
+    }
+
+    /**
+     * Builds the ETag of a listing whose elements carry more state than one modification time, such as
+     * embedded resources that can be added or removed independently of the element.
+     *
+     * @param total the total reported by the listing, or any other value that changes the response besides its elements.
+     * @param items the elements on the page, in response order.
+     * @param id    extracts the ID of an element.
+     * @param state extracts the values that identify the element's current representation.
+     * @return a quoted strong ETag.
+     */
+    public static <T> String ofStates(long total, Collection<T> items, Function<T, UUID> id, Function<T, long[]> state) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(total).flip());
+        for (T item : items) {
+            UUID itemId = id.apply(item);
+            digest.update(buffer.clear()
+                    .putLong(itemId.getMostSignificantBits())
+                    .putLong(itemId.getLeastSignificantBits())
+                    .flip());
+            long[] values = state.apply(item);
+            ByteBuffer valueBuffer = ByteBuffer.allocate((values.length + 1) * Long.BYTES).putLong(values.length);
+            for (long value : values) {
+                valueBuffer.putLong(value);
+            }
+            digest.update(valueBuffer.flip());
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Checks an If-None-Match header against the current ETag using weak comparison, as RFC 9110 requires for GET.
+     *
+     * @param ifNoneMatch the If-None-Match header value, or null if absent.
+     * @param eTag        the current quoted ETag.
+     * @return true if the client's copy is current and a 304 may be returned.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    /**
+     * PostgreSQL stores timestamps with microsecond precision, so an entity that was just written carries
+     * more precision than the same row read back. Truncating keeps both ETags identical.
+     */
+    public static long toEpochMicros(LocalDateTime lastUpdate) {
+        if (lastUpdate == null) {
+            return 0L;
+        }
+        return ChronoUnit.MICROS.between(EPOCH, lastUpdate);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.exceptions.InvalidParameterException;
+
+import java.util.Locale;
+
+/**
+ * Related resources a user endpoint can embed in its response.
+ */
+public enum Expansion {
+    /**
+     * Only the user itself.
+     */
+    NONE,
+    /**
+     * The user together with its administrator or manager profile.
+     */
+    PROFILE;
+
+    public static final String PARAMETER = "expand";
+
+    public static Expansion fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid expansion: " + value, PARAMETER, value);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.exceptions.InvalidParameterException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Validates {@code page} and {@code size} request parameters, so a single request cannot load an unbounded number of rows.
+ */
+public final class PageParameters {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private PageParameters() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static Pageable of(int page, int size, Sort sort) {
+        validatePage(page);
+        validateSize(size);
+        return PageRequest.of(page, size, sort);
+    }
+
+    /**
+     * Validates a page number for endpoints that page without a {@link Pageable}.
+     *
+     * @param page the requested page number.
+     */
+    public static void validatePage(int page) {
+        if (page < 0) {
+            throw new InvalidParameterException("Invalid page: " + page, "page", String.valueOf(page));
+        }
+    }
+
+    /**
+     * Validates a page size for endpoints that page without a {@link Pageable}, such as keyset pagination.
+     *
+     * @param size the requested page size.
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidParameterException("Invalid size: " + size, "size", String.valueOf(size));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.models.dto.AdministratorProfileDTO;
+import com.microservices.userservice.api.models.dto.ManagerProfileDTO;
+import com.microservices.userservice.api.models.entities.AdministratorProfileEntity;
+import com.microservices.userservice.api.models.entities.ManagerProfileEntity;
+import com.microservices.userservice.api.repositories.reactive.AdministratorProfileReadModel;
+import com.microservices.userservice.api.repositories.reactive.ManagerProfileReadModel;
+
+public final class ProfileMapper {
+
+    private ProfileMapper() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Converts an AdministratorProfile entity to an AdministratorProfileDTO object.
+     *
+     * @param adminProfile The AdministratorProfile entity to convert.
+     * @return An AdministratorProfileDTO object representing the entity.
+     */
+    public static AdministratorProfileDTO toDTO(AdministratorProfileEntity adminProfile) {
+        AdministratorProfileDTO adminProfileDTO = new AdministratorProfileDTO();
+        adminProfileDTO.setUserId(adminProfile.getUserId());
+        adminProfileDTO.setDepartment(adminProfile.getDepartment());
+        adminProfileDTO.setPermissionsLevel(adminProfile.getPermissionsLevel());
+        adminProfileDTO.setLastUpdate(adminProfile.getLastUpdate());
+        return adminProfileDTO;
+    }
+
+    /**
+     * Converts a ManagerProfile entity to a ManagerProfileDTO object.
+     *
+     * @param managerProfile The ManagerProfile entity to convert.
+     * @return A ManagerProfileDTO object representing the entity.
+     */
+    public static ManagerProfileDTO toDTO(ManagerProfileEntity managerProfile) {
+        ManagerProfileDTO managerProfileDTO = new ManagerProfileDTO();
+        managerProfileDTO.setUserId(managerProfile.getUserId());
+        managerProfileDTO.setTeamSize(managerProfile.getTeamSize());
+        managerProfileDTO.setAreaOfResponsibility(managerProfile.getAreaOfResponsibility());
+        managerProfileDTO.setLastUpdate(managerProfile.getLastUpdate());
+        return managerProfileDTO;
+    }
+
+    /**
+     * Converts an administrator profile read over R2DBC to an AdministratorProfileDTO object.
+     *
+     * @param adminProfile The read model to convert.
+     * @return An AdministratorProfileDTO object representing the profile.
+     */
+    public static AdministratorProfileDTO toDTO(AdministratorProfileReadModel adminProfile) {
+        AdministratorProfileDTO adminProfileDTO = new AdministratorProfileDTO();
+        adminProfileDTO.setUserId(adminProfile.userId());
+        adminProfileDTO.setDepartment(adminProfile.department());
+        adminProfileDTO.setPermissionsLevel(adminProfile.permissionsLevel());
+        adminProfileDTO.setLastUpdate(adminProfile.lastUpdate());
+        return adminProfileDTO;
+    }
+
+    /**
+     * Converts a manager profile read over R2DBC to a ManagerProfileDTO object.
+     *
+     * @param managerProfile The read model to convert.
+     * @return A ManagerProfileDTO object representing the profile.
+     */
+    public static ManagerProfileDTO toDTO(ManagerProfileReadModel managerProfile) {
+        ManagerProfileDTO managerProfileDTO = new ManagerProfileDTO();
+        managerProfileDTO.setUserId(managerProfile.userId());
+        managerProfileDTO.setTeamSize(managerProfile.teamSize());
+        managerProfileDTO.setAreaOfResponsibility(managerProfile.areaOfResponsibility());
+        managerProfileDTO.setLastUpdate(managerProfile.lastUpdate());
+        return managerProfileDTO;
+    }
+}
@@ -0,0 +1,68 @@
+package com.microservices.userservice.api.util;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes at most a fixed number of WARN lines per interval and counts the rest.
+ * <p>
+ * Client errors caused by bots or broken clients can arrive thousands of times per second.
+ * Logging each one costs formatting and I/O without telling an operator anything new, so
+ * the excess is dropped and reported as a single summary line once logging resumes.
+ */
+public final class RateLimitedLogger {
+
+    private final Logger logger;
+    private final int permitsPerInterval;
+    private final long intervalNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger permitsUsed = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLogger(Logger logger, int permitsPerInterval, Duration interval) {
+        this.logger = logger;
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void warn(String message) {
+        if (tryAcquire()) {
+            logger.warn(message);
+        }
+    }
+
+    public void warn(String format, Object argument) {
+        if (tryAcquire()) {
+            logger.warn(format, argument);
+        }
+    }
+
+    public void warn(String format, Object firstArgument, Object secondArgument) {
+        if (tryAcquire()) {
+            logger.warn(format, firstArgument, secondArgument);
+        }
+    }
+
+    private boolean tryAcquire() {
+        if (!logger.isWarnEnabled()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            permitsUsed.set(0);
+        }
+        if (permitsUsed.incrementAndGet() > permitsPerInterval) {
+            suppressed.incrementAndGet();
+            return false;
+        }
+        long dropped = suppressed.getAndSet(0);
+        if (dropped > 0) {
+            logger.warn("Suppressed {} similar warnings", dropped);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.exceptions.InvalidParameterException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parses a {@code sort} request parameter of the form {@code property} or {@code property,asc|desc}.
+ */
+public final class SortParameter {
+
+    public static final String PARAMETER = "sort";
+
+    private SortParameter() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Parses the parameter against a whitelist of sortable properties and appends a unique
+     * tie-breaker, so offset pagination never repeats or skips rows with equal sort keys.
+     *
+     * @param value      the parameter value.
+     * @param properties the properties clients may sort by.
+     * @param tieBreaker the unique property used to order equal keys.
+     * @return the sort to apply.
+     * @throws InvalidParameterException if the property is not sortable or the direction is unknown.
+     */
+    public static Sort parse(String value, Set<String> properties, String tieBreaker) {
+        String[] parts = value.split(",", -1);
+        String property = parts[0].trim();
+        if (parts.length > 2 || !properties.contains(property)) {
+            throw invalid(value);
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length == 2) {
+            try {
+                direction = Sort.Direction.fromString(parts[1].trim().toLowerCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw invalid(value);
+            }
+        }
+        Sort sort = Sort.by(direction, property);
+        return property.equals(tieBreaker) ? sort : sort.and(Sort.by(direction, tieBreaker));
+    }
+
+    private static InvalidParameterException invalid(String value) {
+        return new InvalidParameterException("Invalid sort: " + value, PARAMETER, value);
+    }
+}
@@ -0,0 +1,72 @@
+package com.microservices.userservice.api.util;
+
+/**
+ * Counts the SQL statements executed on the current thread through the application's JDBC data source.
+ * <p>
+ * A {@link Scope} is opened per request by {@code StatementCountFilter}, or around any call in a test, and
+ * every statement executed while it is open is added to it. Scopes nest: closing an inner scope adds its
+ * count to the enclosing one. Statements executed outside any scope, e.g. by background jobs, are ignored.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Opens a counting scope on the current thread. Must be closed on the same thread.
+     *
+     * @return the new scope.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Returns the number of statements counted so far by the innermost open scope.
+     *
+     * @return the statement count, or -1 if no scope is open.
+     */
+    public static int current() {
+        Scope scope = CURRENT.get();
+        return scope == null ? -1 : scope.count;
+    }
+
+    /**
+     * Records one statement in the innermost open scope, if any. Called by {@code StatementCountingDataSource}.
+     */
+    public static void increment() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count++;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                parent.count += count;
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.exceptions.InvalidParameterException;
+
+import java.util.Locale;
+
+/**
+ * How a listing should report its total number of elements.
+ */
+public enum TotalMode {
+    /**
+     * No total; only whether a next page exists.
+     */
+    NONE,
+    /**
+     * A planner estimate, cheap regardless of table size.
+     */
+    ESTIMATED,
+    /**
+     * An exact COUNT(*), as expensive as scanning every match.
+     */
+    EXACT;
+
+    public static final String PARAMETER = "total";
+
+    public static TotalMode fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid total mode: " + value, PARAMETER, value);
+        }
+    }
+}
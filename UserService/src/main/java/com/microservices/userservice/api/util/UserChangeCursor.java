@@ -0,0 +1,105 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.exceptions.InvalidCursorException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in the user change feed, i.e. over the (change_xid, id) ordering of users, together
+ * with the time the server issued it. Expiry is judged by the issue time, not by the position: a full
+ * sync starts at the oldest rows, and its cursors point far into the past while being perfectly fresh.
+ * Clients receive it Base64URL-encoded and must treat it as an opaque token.
+ * <p>
+ * The token is signed with an HMAC over a server-side key. Expiry depends on the issue time it carries,
+ * so a client that could rewrite it would skip the 410 and silently miss purged tombstones.
+ */
+public record UserChangeCursor(long changeXid, UUID id, LocalDateTime issuedAt) {
+
+    // Sorts before every real ID, so a cursor at (xid, NIL_ID) includes all changes of transaction xid
+    private static final UUID NIL_ID = new UUID(0L, 0L);
+
+    private static final String SEPARATOR = "|";
+    private static final String SIGNATURE_SEPARATOR = ".";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    /**
+     * Re-issues the same position with a new issue time.
+     *
+     * @param now the new issue time.
+     * @return a cursor at the same position, issued at {@code now}.
+     */
+    public UserChangeCursor reissue(LocalDateTime now) {
+        return new UserChangeCursor(changeXid, id, now);
+    }
+
+    /**
+     * Creates a cursor just before every change of a transaction.
+     *
+     * @param changeXid the first transaction whose changes are not known to the consumer.
+     * @param issuedAt  the issue time.
+     * @return a cursor that resumes the feed at {@code changeXid}.
+     */
+    public static UserChangeCursor before(long changeXid, LocalDateTime issuedAt) {
+        return new UserChangeCursor(changeXid, NIL_ID, issuedAt);
+    }
+
+    /**
+     * Encodes and signs the cursor.
+     *
+     * @param key the signing key, shared by every instance.
+     * @return the token handed to clients.
+     */
+    public String encode(byte[] key) {
+        byte[] raw = (changeXid + SEPARATOR + id + SEPARATOR + issuedAt).getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(raw) + SIGNATURE_SEPARATOR + encoder.encodeToString(sign(raw, key));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode(byte[])}.
+     *
+     * @param cursor the encoded cursor.
+     * @param key    the signing key, shared by every instance.
+     * @return the decoded cursor.
+     * @throws InvalidCursorException if the cursor is malformed or its signature does not match.
+     */
+    public static UserChangeCursor decode(String cursor, byte[] key) {
+        try {
+            int signatureIndex = cursor.indexOf(SIGNATURE_SEPARATOR);
+            if (signatureIndex < 0) {
+                throw new IllegalArgumentException("Missing signature");
+            }
+            byte[] payload = Base64.getUrlDecoder().decode(cursor.substring(0, signatureIndex));
+            byte[] signature = Base64.getUrlDecoder().decode(cursor.substring(signatureIndex + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload, key))) {
+                throw new IllegalArgumentException("Signature mismatch");
+            }
+            String raw = new String(payload, StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected 3 parts but got " + parts.length);
+            }
+            return new UserChangeCursor(Long.parseLong(parts[0]), UUID.fromString(parts[1]), LocalDateTime.parse(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor, cursor);
+        }
+    }
+
+    // Mac instances are not thread-safe, and creating one is cheap next to the feed query
+    private static byte[] sign(byte[] payload, byte[] key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign change feed cursors with " + HMAC_ALGORITHM, e);
+        }
+    }
+}
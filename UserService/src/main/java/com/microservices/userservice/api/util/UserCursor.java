@@ -0,0 +1,45 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.exceptions.InvalidCursorException;
+import com.microservices.userservice.api.models.dto.UserDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over the (creation_date, id) ordering of users.
+ * Clients receive it Base64URL-encoded and must treat it as an opaque token.
+ */
+public record UserCursor(LocalDateTime creationDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static UserCursor of(UserDTO userDTO) {
+        return new UserCursor(userDTO.getCreationDate(), userDTO.getId());
+    }
+
+    public String encode() {
+        String raw = creationDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor.
+     * @return the decoded cursor.
+     * @throws InvalidCursorException if the cursor is malformed.
+     */
+    public static UserCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            return new UserCursor(LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor, cursor);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.microservices.userservice.api.util;
+
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.models.entities.UserWithProfiles;
+import com.microservices.userservice.api.repositories.reactive.UserReadModel;
+
+public final class UserMapper {
+
+    private UserMapper() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Converts a User entity to a UserDTO object.
+     *
+     * @param userEntity The User entity to convert.
+     * @return A UserDTO object representing the User entity.
+     */
+    public static UserDTO toDTO(UserEntity userEntity) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(userEntity.getId());
+        userDTO.setFirstName(userEntity.getFirstName());
+        userDTO.setLastName(userEntity.getLastName());
+        userDTO.setEmail(userEntity.getEmail());
+        userDTO.setPassword(userEntity.getPassword());
+        userDTO.setCreationDate(userEntity.getCreationDate());
+        userDTO.setLastUpdate(userEntity.getLastUpdate());
+        userDTO.setSoftDelete(userEntity.isSoftDelete());
+        userDTO.setRole(userEntity.getRole());
+        userDTO.setVersion(userEntity.getVersion());
+        return userDTO;
+    }
+
+    /**
+     * Converts a UserDTO object to a User entity.
+     *
+     * @param userDTO The UserDTO object to convert.
+     * @return A User entity representing the UserDTO object.
+     */
+    public static UserEntity toEntity(UserDTO userDTO) {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setId(userDTO.getId());
+        userEntity.setFirstName(userDTO.getFirstName());
+        userEntity.setLastName(userDTO.getLastName());
+        userEntity.setEmail(userDTO.getEmail());
+        userEntity.setPassword(userDTO.getPassword());
+        userEntity.setCreationDate(userDTO.getCreationDate());
+        userEntity.setLastUpdate(userDTO.getLastUpdate());
+        userEntity.setSoftDelete(userDTO.isSoftDelete());
+        userEntity.setRole(userDTO.getRole());
+        return userEntity;
+    }
+
+    /**
+     * Converts a user read with its profiles to a UserDTO object with the profiles embedded.
+     *
+     * @param userWithProfiles The user and its profiles.
+     * @return A UserDTO object with administratorProfile and managerProfile set when present.
+     */
+    public static UserDTO toDTO(UserWithProfiles userWithProfiles) {
+        UserDTO userDTO = toDTO(userWithProfiles.user());
+        if (userWithProfiles.administratorProfile() != null) {
+            userDTO.setAdministratorProfile(ProfileMapper.toDTO(userWithProfiles.administratorProfile()));
+        }
+        if (userWithProfiles.managerProfile() != null) {
+            userDTO.setManagerProfile(ProfileMapper.toDTO(userWithProfiles.managerProfile()));
+        }
+        return userDTO;
+    }
+
+    /**
+     * Converts a user read over R2DBC to a UserDTO object.
+     *
+     * @param user The user read model to convert.
+     * @return A UserDTO object representing the user.
+     */
+    public static UserDTO toDTO(UserReadModel user) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(user.id());
+        userDTO.setFirstName(user.firstName());
+        userDTO.setLastName(user.lastName());
+        userDTO.setEmail(user.email());
+        userDTO.setPassword(user.password());
+        userDTO.setCreationDate(user.creationDate());
+        userDTO.setLastUpdate(user.lastUpdate());
+        userDTO.setSoftDelete(user.softDelete());
+        userDTO.setRole(user.role());
+        userDTO.setVersion(user.version());
+        return userDTO;
+    }
+}
@@ -0,0 +1,53 @@
+-- Flyway migration script
+-- Version: 10
+-- Description: Order users by writing transaction for the change feed and publish feed positions in change notifications
+
+-- last_update is taken before commit, so a long transaction can commit rows older than a position the feed
+-- has already passed. change_xid records the writing transaction instead: once every transaction below the
+-- oldest one still running (the snapshot xmin) has finished, nothing can appear below that position anymore.
+-- Existing rows keep 0 and are returned first by a full sync.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION stamp_user_change_xid() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id()::TEXT::BIGINT;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS users_stamp_change_xid ON users;
+CREATE TRIGGER users_stamp_change_xid
+    BEFORE INSERT OR UPDATE ON users
+    FOR EACH ROW EXECUTE FUNCTION stamp_user_change_xid();
+
+-- Serves ORDER BY change_xid, id and the (change_xid, id) > (?, ?) seek predicate of the change feed.
+-- Not partial: soft-deleted users are the feed's tombstones until the purge removes them.
+CREATE INDEX IF NOT EXISTS idx_users_change_xid_id ON users (change_xid, id);
+
+-- Same payload as V5, plus the modification time and the snapshot xmin at the time of the change:
+-- every transaction below feedXmin had finished, so a consumer that has seen this notification can
+-- catch up from feedXmin without missing anything
+CREATE OR REPLACE FUNCTION notify_user_change() RETURNS trigger AS $$
+DECLARE
+    changed JSONB;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed := to_jsonb(OLD);
+    ELSE
+        changed := to_jsonb(NEW);
+    END IF;
+
+    PERFORM pg_notify('user_changes', json_build_object(
+            'table', TG_TABLE_NAME,
+            'operation', TG_OP,
+            'id', COALESCE(changed ->> 'id', changed ->> 'user_id'),
+            'email', changed ->> 'email',
+            'firstName', changed ->> 'first_name',
+            'lastName', changed ->> 'last_name',
+            'softDelete', (changed ->> 'soft_delete')::BOOLEAN,
+            'lastUpdate', changed ->> 'last_update',
+            'feedXmin', pg_snapshot_xmin(pg_current_snapshot())::TEXT::BIGINT
+        )::TEXT);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
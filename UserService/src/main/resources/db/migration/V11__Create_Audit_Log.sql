@@ -0,0 +1,15 @@
+-- Flyway migration script
+-- Version: 11
+-- Description: Append-only audit trail of user and profile mutations
+
+CREATE TABLE IF NOT EXISTS audit_log (
+                       id BIGSERIAL PRIMARY KEY,
+                       occurred_at TIMESTAMP NOT NULL,
+                       actor VARCHAR(255),  -- Authenticated principal, NULL for system changes
+                       action VARCHAR(10) NOT NULL,  -- 'CREATE', 'UPDATE' or 'DELETE'
+                       resource_type VARCHAR(30) NOT NULL,  -- 'USER', 'ADMINISTRATOR_PROFILE' or 'MANAGER_PROFILE'
+                       resource_id UUID NOT NULL
+);
+
+-- History of one resource in time order
+CREATE INDEX IF NOT EXISTS idx_audit_log_resource ON audit_log (resource_id, occurred_at);
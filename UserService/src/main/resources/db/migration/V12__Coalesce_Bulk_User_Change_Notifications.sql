@@ -0,0 +1,68 @@
+-- Flyway migration script
+-- Version: 12
+-- Description: Send one notification per transaction for bulk writes to users instead of one per row
+
+-- A transaction announces a bulk write with set_config('app.user_changes', ..., true), which lasts until it ends:
+--   'bulk' - row notifications are suppressed and each statement on users sends one payload without row data.
+--            NOTIFY drops identical payloads within a transaction, so listeners get one per table and operation.
+--   'off'  - no notifications at all, for writes no listener needs to see (the purge of users whose soft delete
+--            was already announced).
+-- Unset (or reset to '' after a transaction that set it), every row is announced as before.
+-- Otherwise the same payload as V10.
+CREATE OR REPLACE FUNCTION notify_user_change() RETURNS trigger AS $$
+DECLARE
+    changed JSONB;
+BEGIN
+    IF COALESCE(current_setting('app.user_changes', true), '') IN ('bulk', 'off') THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        changed := to_jsonb(OLD);
+    ELSE
+        changed := to_jsonb(NEW);
+    END IF;
+
+    PERFORM pg_notify('user_changes', json_build_object(
+            'table', TG_TABLE_NAME,
+            'operation', TG_OP,
+            'id', COALESCE(changed ->> 'id', changed ->> 'user_id'),
+            'email', changed ->> 'email',
+            'firstName', changed ->> 'first_name',
+            'lastName', changed ->> 'last_name',
+            'softDelete', (changed ->> 'soft_delete')::BOOLEAN,
+            'lastUpdate', changed ->> 'last_update',
+            'feedXmin', pg_snapshot_xmin(pg_current_snapshot())::TEXT::BIGINT
+        )::TEXT);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- No snapshot xmin in the payload: it can differ between statements and would defeat the deduplication
+CREATE OR REPLACE FUNCTION notify_user_bulk_change() RETURNS trigger AS $$
+BEGIN
+    IF current_setting('app.user_changes', true) = 'bulk' THEN
+        PERFORM pg_notify('user_changes', json_build_object(
+                'table', TG_TABLE_NAME,
+                'operation', TG_OP,
+                'bulk', true
+            )::TEXT);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS users_notify_bulk_change ON users;
+CREATE TRIGGER users_notify_bulk_change
+    AFTER INSERT OR UPDATE OR DELETE ON users
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_user_bulk_change();
+
+DROP TRIGGER IF EXISTS administrator_profiles_notify_bulk_change ON administrator_profiles;
+CREATE TRIGGER administrator_profiles_notify_bulk_change
+    AFTER INSERT OR UPDATE OR DELETE ON administrator_profiles
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_user_bulk_change();
+
+DROP TRIGGER IF EXISTS manager_profiles_notify_bulk_change ON manager_profiles;
+CREATE TRIGGER manager_profiles_notify_bulk_change
+    AFTER INSERT OR UPDATE OR DELETE ON manager_profiles
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_user_bulk_change();
@@ -0,0 +1,6 @@
+-- Flyway migration script
+-- Version: 3
+-- Description: Add composite index backing keyset (cursor) pagination of users
+
+-- Serves ORDER BY creation_date, id and the (creation_date, id) > (?, ?) seek predicate
+CREATE INDEX IF NOT EXISTS idx_users_creation_date_id ON users (creation_date, id);
@@ -0,0 +1,10 @@
+-- Flyway migration script
+-- Version: 4
+-- Description: Add trigram index backing substring search over user email and names
+
+-- Enable pg_trgm extension for trigram GIN operator classes and similarity() ranking
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Single searchable document per user; the expression must match UserRepository.searchByRelevance exactly
+CREATE INDEX IF NOT EXISTS idx_users_search_trgm ON users
+    USING gin (lower(email || ' ' || first_name || ' ' || coalesce(last_name, '')) gin_trgm_ops);
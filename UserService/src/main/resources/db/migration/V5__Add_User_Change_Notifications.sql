@@ -0,0 +1,43 @@
+-- Flyway migration script
+-- Version: 5
+-- Description: Publish committed changes to users and profiles on the user_changes NOTIFY channel
+
+-- Notifications are delivered to listeners only when the writing transaction commits.
+-- User payloads carry the searchable fields so listeners can refresh in-memory indexes without a query.
+CREATE OR REPLACE FUNCTION notify_user_change() RETURNS trigger AS $$
+DECLARE
+    changed JSONB;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed := to_jsonb(OLD);
+    ELSE
+        changed := to_jsonb(NEW);
+    END IF;
+
+    PERFORM pg_notify('user_changes', json_build_object(
+            'table', TG_TABLE_NAME,
+            'operation', TG_OP,
+            'id', COALESCE(changed ->> 'id', changed ->> 'user_id'),
+            'email', changed ->> 'email',
+            'firstName', changed ->> 'first_name',
+            'lastName', changed ->> 'last_name',
+            'softDelete', (changed ->> 'soft_delete')::BOOLEAN
+        )::TEXT);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS users_notify_change ON users;
+CREATE TRIGGER users_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON users
+    FOR EACH ROW EXECUTE FUNCTION notify_user_change();
+
+DROP TRIGGER IF EXISTS administrator_profiles_notify_change ON administrator_profiles;
+CREATE TRIGGER administrator_profiles_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON administrator_profiles
+    FOR EACH ROW EXECUTE FUNCTION notify_user_change();
+
+DROP TRIGGER IF EXISTS manager_profiles_notify_change ON manager_profiles;
+CREATE TRIGGER manager_profiles_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON manager_profiles
+    FOR EACH ROW EXECUTE FUNCTION notify_user_change();
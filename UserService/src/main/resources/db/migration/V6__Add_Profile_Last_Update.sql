@@ -0,0 +1,12 @@
+-- Flyway migration script
+-- Version: 6
+-- Description: Track last modification of profiles so profile endpoints can answer conditional GETs
+
+ALTER TABLE administrator_profiles
+    ADD COLUMN IF NOT EXISTS last_update TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE manager_profiles
+    ADD COLUMN IF NOT EXISTS last_update TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- ETags are derived from last_update, so every user needs one
+UPDATE users SET last_update = creation_date WHERE last_update IS NULL;
@@ -0,0 +1,6 @@
+-- Flyway migration script
+-- Version: 7
+-- Description: Optimistic locking version for users, checked by conditional updates (If-Match)
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- Flyway migration script
+-- Version: 8
+-- Description: Indexes for filtered, sorted and paginated profile listings
+
+-- Exact filters and sorting; user_id keeps the order stable across pages
+CREATE INDEX IF NOT EXISTS idx_administrator_profiles_department ON administrator_profiles (department, user_id);
+CREATE INDEX IF NOT EXISTS idx_administrator_profiles_permissions_level ON administrator_profiles (permissions_level, user_id);
+CREATE INDEX IF NOT EXISTS idx_manager_profiles_team_size ON manager_profiles (team_size, user_id);
+
+-- Case-insensitive substring search (pg_trgm is enabled by V4)
+CREATE INDEX IF NOT EXISTS idx_administrator_profiles_department_trgm
+    ON administrator_profiles USING gin (lower(department) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_manager_profiles_area_trgm
+    ON manager_profiles USING gin (lower(area_of_responsibility) gin_trgm_ops);
@@ -0,0 +1,20 @@
+-- Flyway migration script
+-- Version: 9
+-- Description: Soft delete users; scope email uniqueness and read-path indexes to live rows
+
+-- Email uniqueness only applies to live users, so an email is free again as soon as its user is deleted.
+-- The index name must match UserRepository.EMAIL_UNIQUE_CONSTRAINT.
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+CREATE UNIQUE INDEX IF NOT EXISTS users_email_live_key ON users (email) WHERE soft_delete = false;
+
+-- Reads never see soft-deleted users, so the read-path indexes leave them out
+DROP INDEX IF EXISTS idx_users_creation_date_id;
+CREATE INDEX IF NOT EXISTS idx_users_creation_date_id ON users (creation_date, id) WHERE soft_delete = false;
+
+DROP INDEX IF EXISTS idx_users_search_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_search_trgm ON users
+    USING gin (lower(email || ' ' || first_name || ' ' || coalesce(last_name, '')) gin_trgm_ops)
+    WHERE soft_delete = false;
+
+-- Purge backlog in deletion order; last_update is set when a user is soft deleted
+CREATE INDEX IF NOT EXISTS idx_users_purge ON users (last_update) WHERE soft_delete = true;
@@ -0,0 +1,98 @@
+package com.microservices.userservice.api.controllers;
+
+import com.microservices.userservice.api.config.StatementCountHeaderAdvice;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.repositories.UserRepository;
+import com.microservices.userservice.api.services.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.microservices.userservice.api.util.StatementCountAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = "app.statements.debug-header=true")
+@AutoConfigureMockMvc
+class UserControllerStatementCountTests {
+
+    private static final int SEEDED_USERS = 5;
+    private static final int MAX_LIST_STATEMENTS = 2;
+
+    @Autowired
+    private UserController userController;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<UUID> createdUserIds = new ArrayList<>();
+
+    @BeforeEach
+    void seedUsers() {
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            createdUserIds.add(userService.createUser(newUser()).getId());
+        }
+    }
+
+    @AfterEach
+    void deleteSeededUsers() {
+        userRepository.deleteAllById(createdUserIds);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMINISTRATOR")
+    void getAllUsersRunsAtMostTwoStatements() {
+        // Links are built from the current request
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/v1/users")));
+
+        ResponseEntity<?> response = assertMaxStatements(MAX_LIST_STATEMENTS,
+                () -> userController.getAllUsers(0, 20, null, null, null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMINISTRATOR")
+    void getAllUsersReportsStatementCountHeader() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/users").param("size", "20")).andReturn();
+
+        assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus());
+        String header = result.getResponse().getHeader(StatementCountHeaderAdvice.STATEMENT_COUNT_HEADER);
+        assertNotNull(header);
+        assertTrue(Integer.parseInt(header) <= MAX_LIST_STATEMENTS, "Unexpected statement count: " + header);
+    }
+
+    private UserDTO newUser() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setFirstName("Statement");
+        userDTO.setLastName("Count");
+        userDTO.setEmail("statements-" + UUID.randomUUID() + "@example.com");
+        userDTO.setPassword("password123");
+        userDTO.setRole("manager");
+        return userDTO;
+    }
+}
@@ -0,0 +1,121 @@
+package com.microservices.userservice.api.events;
+
+import com.microservices.userservice.api.config.CacheConfig;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the configured Postgres: a write made over plain JDBC, as another instance or psql would,
+ * must come back through the change triggers and the LISTEN connection and evict the users cache entry.
+ */
+@SpringBootTest
+class UserChangeNotificationListenerTests {
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ReceivedChanges receivedChanges;
+
+    private final String email = "notify-" + UUID.randomUUID() + "@example.com";
+    private UUID userId;
+
+    @BeforeEach
+    void insertUser() {
+        userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (first_name, email, password, role) VALUES ('Notify', ?, 'password123', 'manager') RETURNING id",
+                UUID.class, email);
+        receivedChanges.events.clear();
+    }
+
+    @AfterEach
+    void deleteUser() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void updateOverJdbcEvictsCachedUserAndPublishesEvent() throws Exception {
+        Cache usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        assertNotNull(usersCache);
+        UserDTO cachedUser = new UserDTO();
+        cachedUser.setId(userId);
+        cachedUser.setEmail(email);
+        usersCache.put(userId, cachedUser);
+
+        UserChangeEvent event = updateUntilNotified("Renamed");
+
+        assertEquals(UserChangeEvent.USERS_TABLE, event.table());
+        assertEquals("UPDATE", event.operation());
+        assertEquals(email, event.email());
+        assertEquals("Renamed", event.firstName());
+        assertFalse(event.bulk());
+        assertTrue(waitForEviction(usersCache), "users cache entry was not evicted");
+    }
+
+    // The listener connects asynchronously at startup, so the first update may be committed before LISTEN runs
+    private UserChangeEvent updateUntilNotified(String firstName) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            jdbcTemplate.update("UPDATE users SET first_name = ? WHERE id = ?", firstName, userId);
+            UserChangeEvent event;
+            while ((event = receivedChanges.events.poll(500, TimeUnit.MILLISECONDS)) != null) {
+                if (userId.equals(event.id()) && "UPDATE".equals(event.operation())) {
+                    return event;
+                }
+            }
+        }
+        return fail("no UserChangeEvent received for user " + userId);
+    }
+
+    private boolean waitForEviction(Cache usersCache) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (usersCache.get(userId) == null) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+
+    @TestConfiguration
+    static class ReceivedChangesConfig {
+
+        @Bean
+        ReceivedChanges receivedChanges() {
+            return new ReceivedChanges();
+        }
+    }
+
+    static class ReceivedChanges {
+
+        private final BlockingQueue<UserChangeEvent> events = new LinkedBlockingQueue<>();
+
+        @EventListener
+        public void onUserChange(UserChangeEvent event) {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.microservices.userservice.api.services.implementation;
+
+import com.microservices.userservice.api.exceptions.GlobalExceptionHandler;
+import com.microservices.userservice.api.models.dto.UserDTO;
+import com.microservices.userservice.api.models.entities.UserEntity;
+import com.microservices.userservice.api.repositories.UserRepository;
+import com.microservices.userservice.api.responses.ApiResponse;
+import com.microservices.userservice.api.services.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UserServiceImplConcurrencyTests {
+
+    private static final int PARALLEL_CREATES = 8;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    private final String email = "parallel-" + UUID.randomUUID() + "@example.com";
+
+    @AfterEach
+    void deleteCreatedUser() {
+        UserEntity createdUser = userRepository.findByEmail(email);
+        if (createdUser != null) {
+            userRepository.delete(createdUser);
+        }
+    }
+
+    @Test
+    void parallelCreatesWithSameEmailInsertExactlyOneUser() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_CREATES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<UserDTO>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < PARALLEL_CREATES; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return userService.createUser(newUser());
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            List<DataIntegrityViolationException> conflicts = new ArrayList<>();
+            for (Future<UserDTO> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    created++;
+                } catch (ExecutionException e) {
+                    conflicts.add(assertInstanceOf(DataIntegrityViolationException.class, e.getCause()));
+                }
+            }
+
+            assertEquals(1, created);
+            assertEquals(PARALLEL_CREATES - 1, conflicts.size());
+            for (DataIntegrityViolationException conflict : conflicts) {
+                ResponseEntity<ApiResponse> response = globalExceptionHandler.handleDataIntegrityViolationException(conflict);
+                assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+                assertTrue(response.getBody().getDetails().contains(email));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UserDTO newUser() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setFirstName("Parallel");
+        userDTO.setLastName("Create");
+        userDTO.setEmail(email);
+        userDTO.setPassword("password123");
+        userDTO.setRole("manager");
+        return userDTO;
+    }
+}
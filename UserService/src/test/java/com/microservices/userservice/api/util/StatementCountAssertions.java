@@ -0,0 +1,45 @@
+package com.microservices.userservice.api.util;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test assertions on the number of SQL statements a call runs, so that N+1 queries fail the build
+ * instead of surfacing in production.
+ */
+public final class StatementCountAssertions {
+
+    private StatementCountAssertions() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Runs a call and returns the number of SQL statements it executed on this thread.
+     *
+     * @param call the call to measure.
+     * @return the number of statements.
+     */
+    public static int countStatements(Runnable call) {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            call.run();
+            return scope.count();
+        }
+    }
+
+    /**
+     * Runs a call and fails if it executed more than {@code max} SQL statements.
+     *
+     * @param max  the maximum number of statements allowed.
+     * @param call the call to measure.
+     * @return the result of the call.
+     */
+    public static <T> T assertMaxStatements(int max, Supplier<T> call) {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            T result = call.get();
+            int count = scope.count();
+            assertTrue(count <= max, () -> "Expected at most " + max + " SQL statements but " + count + " ran");
+            return result;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+
+export const options = {
+    scenarios: {
+        constant: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 200),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(99)<500'],
+    },
+};
+
+const body = JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD });
+
+export default function () {
+    const res = http.post(`${BASE_URL}/api/v1/auth/login`, body, {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return { [`results/auth-login-${MODE}.json`]: JSON.stringify(data, null, 2) };
+}
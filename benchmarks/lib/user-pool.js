@@ -0,0 +1,51 @@
+import http from 'k6/http';
+
+// Larger than the users cache (spring.cache.caffeine.spec maximumSize=10000), so most reads miss it and
+// reach the database, as they do in production, instead of measuring a cache hit.
+const POOL_SIZE = Number(__ENV.POOL_SIZE || 20000);
+const PAGE_SIZE = 1000;
+
+/**
+ * Collects up to POOL_SIZE user IDs through the cursor listing. Called from setup(), once per run.
+ * USER_ID pins every request to one user instead, which measures the cache-hit path on purpose.
+ */
+export function loadUserIds(baseUrl, token) {
+    if (__ENV.USER_ID) {
+        return [__ENV.USER_ID];
+    }
+    const ids = [];
+    let url = `${baseUrl}/api/v1/users/cursor?size=${PAGE_SIZE}`;
+    while (url && ids.length < POOL_SIZE) {
+        const res = http.get(url, { headers: { Authorization: `Bearer ${token}` } });
+        if (res.status !== 200) {
+            throw new Error(`Listing users failed with ${res.status}: ${res.body}`);
+        }
+        const body = res.json();
+        const users = body._embedded ? Object.values(body._embedded)[0] : [];
+        users.forEach((user) => ids.push(user.id));
+        url = body._links && body._links.next ? body._links.next.href : null;
+    }
+    if (ids.length === 0) {
+        throw new Error('No users to read; seed the database first');
+    }
+    if (ids.length < POOL_SIZE) {
+        console.warn(`Only ${ids.length} users found; with fewer users than the cache holds, reads become cache hits`);
+    }
+    return ids.slice(0, POOL_SIZE);
+}
+
+/**
+ * Returns a picker drawing IDs uniformly from the pool with a seeded generator (mulberry32), so two runs with
+ * the same SEED and VU count request the same sequence of users.
+ */
+export function userPicker(ids) {
+    let state = (Number(__ENV.SEED || 42) + __VU * 0x9e3779b9) >>> 0;
+    return () => {
+        state = (state + 0x6d2b79f5) >>> 0;
+        let t = state;
+        t = Math.imul(t ^ (t >>> 15), t | 1);
+        t ^= t + Math.imul(t ^ (t >>> 7), t | 61);
+        const random = ((t ^ (t >>> 14)) >>> 0) / 4294967296;
+        return ids[Math.floor(random * ids.length)];
+    };
+}
@@ -0,0 +1,42 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { loadUserIds, userPicker } from './lib/user-pool.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+
+export const options = {
+    scenarios: {
+        constant: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 2000),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(99)<250'],
+    },
+};
+
+let pickUser;
+
+export function setup() {
+    return { ids: loadUserIds(BASE_URL, __ENV.TOKEN) };
+}
+
+export default function (data) {
+    pickUser = pickUser || userPicker(data.ids);
+    const res = http.get(`${BASE_URL}/api/v1/users/${pickUser()}`, {
+        headers: { Authorization: `Bearer ${__ENV.TOKEN}` },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return { [`results/users-by-id-${MODE}.json`]: JSON.stringify(data, null, 2) };
+}
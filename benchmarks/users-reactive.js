@@ -0,0 +1,56 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { loadUserIds, userPicker } from './lib/user-pool.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 2000);
+const DURATION = __ENV.DURATION || '2m';
+
+// The same users read through the blocking and the reactive stack, one after the other, with thousands of
+// concurrent connections. The blocking endpoint caches users, so both read from a pool larger than the cache. Run the service with a small fixed pool, e.g. SERVER_TOMCAT_THREADS_MAX=16.
+export const options = {
+    scenarios: {
+        blocking: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            env: { PATH_PREFIX: '/api/v1/users' },
+            tags: { api: 'blocking' },
+        },
+        reactive: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            startTime: DURATION,
+            env: { PATH_PREFIX: '/api/v1/reactive/users' },
+            tags: { api: 'reactive' },
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{api:blocking}': ['p(99)>=0'],
+        'http_req_duration{api:reactive}': ['p(99)>=0'],
+        'http_reqs{api:blocking}': ['count>=0'],
+        'http_reqs{api:reactive}': ['count>=0'],
+        'http_req_failed{api:reactive}': ['rate<0.01'],
+    },
+};
+
+let pickUser;
+
+export function setup() {
+    return { ids: loadUserIds(BASE_URL, __ENV.TOKEN) };
+}
+
+export default function (data) {
+    pickUser = pickUser || userPicker(data.ids);
+    const res = http.get(`${BASE_URL}${__ENV.PATH_PREFIX}/${pickUser()}`, {
+        headers: { Authorization: `Bearer ${__ENV.TOKEN}` },
+        timeout: '60s',
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return { 'results/users-reactive.json': JSON.stringify(data, null, 2) };
+}
@@ -0,0 +1,10 @@
+#!/bin/bash
+# Stop the script on any errors
+set -e
+
+# Create the role the replica streams WAL with, and allow it to connect for replication
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname postgres <<-EOSQL
+    CREATE ROLE $REPLICATION_USER WITH REPLICATION LOGIN PASSWORD '${REPLICATION_PASSWORD}';
+EOSQL
+
+echo "host replication $REPLICATION_USER all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,16 @@
+#!/bin/bash
+# Stop the script on any errors
+set -e
+
+# On first start, clone the primary and write the standby configuration; afterwards just start as a hot standby
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    until pg_isready --host "$PRIMARY_HOST" --port 5432; do
+        echo "Waiting for $PRIMARY_HOST..."
+        sleep 2
+    done
+    PGPASSWORD="$REPLICATION_PASSWORD" pg_basebackup --host "$PRIMARY_HOST" --username "$REPLICATION_USER" \
+        --pgdata "$PGDATA" --wal-method stream --write-recovery-conf --progress
+    chmod 0700 "$PGDATA"
+fi
+
+exec postgres